@@ -0,0 +1,47 @@
+package company.bench;
+
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * Shared object graphs for the benchmarks. Everything is built through the public
+ * constructors so the fixtures go through the same validation as production code.
+ */
+public final class Fixtures {
+    private Fixtures() {
+    }
+
+    public static Department department(String id) {
+        return new Department(id, "Department " + id, "Benchmark department");
+    }
+
+    public static Position position() {
+        Position position = new Position("P001", "Software Developer", "Development of software solutions", 25000, 45000);
+        position.addRequiredSkill("Java");
+        position.addRequiredSkill("SQL");
+        return position;
+    }
+
+    public static WorkSchedule schedule() {
+        return new WorkSchedule("WS001", "Standard Schedule", 5, 8.0,
+                LocalTime.of(9, 0), LocalTime.of(18, 0), Duration.ofHours(1), false);
+    }
+
+    public static Employee employee(int n, Department department, Position position, WorkSchedule schedule) {
+        return new Employee("E" + n, "First" + n, "Last" + n,
+                "employee" + n + "@company.com", "+38093" + (1000000 + n),
+                department, position, "2023-01-01", 30000 + (n % 1000), schedule, true);
+    }
+
+    public static Manager manager(int n, Department department, Position position, WorkSchedule schedule) {
+        return new Manager("M" + n, "Manager" + n, "Last" + n,
+                "manager" + n + "@company.com", "+38094" + (1000000 + n),
+                department, position, "2023-01-01", 45000, schedule, true, department);
+    }
+}
@@ -0,0 +1,99 @@
+package company.empoloyees;
+
+import company.bench.Fixtures;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of recording a salary change in {@link EmployeeChangeLog}, and of reconstructing all
+ * employees at a point halfway through a long history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeChangeLogBenchmark {
+    @Param({"100000"})
+    private int employees;
+
+    @Param({"1000000"})
+    private int changes;
+
+    private final long[] now = {Instant.parse("2026-01-01T00:00:00Z").toEpochMilli()};
+    private List<Employee> staff;
+    private EmployeeChangeLog log;
+    private Instant midpoint;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Department department = Fixtures.department("D1");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        staff = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            staff.add(Fixtures.employee(i, department, position, schedule));
+        }
+        log = EmployeeChangeLog.create(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now[0]);
+            }
+        });
+        log.track(staff);
+        for (int i = 0; i < changes; i++) {
+            now[0] += 1000;
+            staff.get(i % employees).adjustSalary(i % 2 == 0 ? 10 : -10);
+        }
+        midpoint = Instant.ofEpochMilli(now[0] - changes / 2 * 1000L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        log.close();
+    }
+
+    @Benchmark
+    public void recordSalaryChange() {
+        Employee employee = staff.get(next++ % employees);
+        employee.adjustSalary(next % 2 == 0 ? 10 : -10);
+    }
+
+    @Benchmark
+    public double replayToMidpoint() {
+        return log.at(midpoint).getSalary(staff.get(0));
+    }
+}
@@ -0,0 +1,46 @@
+package company.empoloyees;
+
+import company.bench.Fixtures;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link Employee} constructor: email and phone validation plus hire date parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeConstructionBenchmark {
+    private Department department;
+    private Position position;
+    private WorkSchedule schedule;
+
+    @Setup
+    public void setUp() {
+        department = Fixtures.department("D001");
+        position = Fixtures.position();
+        schedule = Fixtures.schedule();
+    }
+
+    @Benchmark
+    public Employee construct() {
+        return new Employee("E001", "Dmytro", "Shvaika", "dmytro.shvaika@company.com",
+                "+380931234001", department, position, "2023-01-01", 35000, schedule, true);
+    }
+}
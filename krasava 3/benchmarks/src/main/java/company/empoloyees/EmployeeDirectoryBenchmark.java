@@ -0,0 +1,88 @@
+package company.empoloyees;
+
+import company.bench.Fixtures;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primary and secondary lookups in a loaded {@link EmployeeDirectory}, plus an index-moving update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeDirectoryBenchmark {
+    private static final int DEPARTMENTS = 100;
+
+    @Param({"500000"})
+    private int employees;
+
+    private EmployeeDirectory directory;
+    private Department[] departments;
+    private String[] ids;
+    private Employee probe;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        directory = EmployeeDirectory.create();
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        ids = new String[employees];
+        departments = new Department[DEPARTMENTS];
+        for (int i = 0; i < DEPARTMENTS; i++) {
+            departments[i] = Fixtures.department("D" + i);
+        }
+        for (int i = 0; i < employees; i++) {
+            Employee employee = Fixtures.employee(i, departments[i % DEPARTMENTS], position, schedule);
+            directory.register(employee);
+            ids[i] = employee.getEmployeeId();
+            probe = employee;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        directory.close();
+    }
+
+    @Benchmark
+    public Employee byId() {
+        next = (next + 7919) % employees;
+        return directory.getById(ids[next]);
+    }
+
+    @Benchmark
+    public Set<Employee> byEmail() {
+        return directory.getByEmail(probe.getEmail());
+    }
+
+    @Benchmark
+    public int byDepartment() {
+        return directory.getByDepartment(departments[next++ % DEPARTMENTS]).size();
+    }
+
+    @Benchmark
+    public Employee transfer() {
+        probe.transferToDepartment(departments[next++ % DEPARTMENTS]);
+        return probe;
+    }
+}
@@ -0,0 +1,72 @@
+package company.empoloyees;
+
+import company.bench.Fixtures;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk CSV import compared with creating the same employees one constructor call at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeImportBenchmark {
+    @Param({"100000"})
+    private int rows;
+
+    private List<String> lines;
+    private EmployeeImporter importer;
+    private Department department;
+    private Position position;
+    private WorkSchedule schedule;
+
+    @Setup
+    public void setUp() {
+        department = Fixtures.department("D001");
+        position = Fixtures.position();
+        schedule = Fixtures.schedule();
+        importer = EmployeeImporter.csv(Map.of("D001", department), Map.of("P001", position),
+                Map.of("WS001", schedule));
+        lines = new ArrayList<>(rows + 1);
+        lines.add("type,employeeId,firstName,lastName,email,phoneNumber,departmentId,positionId,"
+                + "hireDate,salary,scheduleId,active");
+        for (int i = 0; i < rows; i++) {
+            lines.add("EMPLOYEE,E" + i + ",First" + i + ",Last" + i + ",employee" + i + "@company.com,+38093"
+                    + (1000000 + i) + ",D001,P001,2023-01-01," + (30000 + i % 1000) + ",WS001,true");
+        }
+    }
+
+    @Benchmark
+    public ImportResult importCsv() {
+        return importer.importLines(lines);
+    }
+
+    @Benchmark
+    public List<Employee> constructEach() {
+        List<Employee> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(Fixtures.employee(i, department, position, schedule));
+        }
+        return employees;
+    }
+}
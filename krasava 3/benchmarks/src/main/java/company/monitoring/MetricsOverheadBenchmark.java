@@ -0,0 +1,37 @@
+package company.monitoring;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of timing one call with {@link Metrics}, with collection switched off (the default)
+ * and on via {@code -Dcompany.metrics.enabled=true}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    @Benchmark
+    public void disabled() {
+        Metrics.TASK_LOG_WORK.record(Metrics.start());
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dcompany.metrics.enabled=true")
+    public void enabled() {
+        Metrics.TASK_LOG_WORK.record(Metrics.start());
+    }
+}
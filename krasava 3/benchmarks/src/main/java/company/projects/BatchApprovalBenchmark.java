@@ -0,0 +1,88 @@
+package company.projects;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Month-end approval of a batch spread over a few tasks: one {@link TimeEntry#approve()}
+ * per entry against {@link TimeEntry#approveAll(java.util.Collection)}. Tasks keep every entry
+ * they are given and projects keep their tasks, so each invocation books onto a new project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchApprovalBenchmark {
+    private static final int TASKS = 10;
+
+    @Param({"10000"})
+    private int entries;
+
+    private Employee employee;
+    private Manager manager;
+    private Project project;
+    private List<Task> tasks;
+    private List<TimeEntry> batch;
+
+    @Setup
+    public void setUp() {
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        employee = Fixtures.employee(1, department, position, schedule);
+        manager = Fixtures.manager(0, department, position, schedule);
+    }
+
+    @Setup(Level.Invocation)
+    public void createBatch() {
+        project = new Project("PR001", "Benchmark project", "Batch approval",
+                LocalDateTime.now(), LocalDateTime.now().plusMonths(3), manager);
+        tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task("T" + i, "Task " + i, project, employee, LocalDateTime.now().plusYears(1)));
+        }
+        LocalDateTime end = LocalDateTime.now().minusDays(1);
+        batch = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            TimeEntry entry = new TimeEntry("TE" + i, employee, project, tasks.get(i % TASKS), end.minusHours(2));
+            entry.stopWork(end);
+            batch.add(entry);
+        }
+    }
+
+    @Benchmark
+    public Project approveOneByOne() {
+        for (TimeEntry entry : batch) {
+            entry.approve();
+        }
+        return project;
+    }
+
+    @Benchmark
+    public List<ApprovalResult> approveBatch() {
+        return TimeEntry.approveAll(batch);
+    }
+}
@@ -0,0 +1,82 @@
+package company.projects;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Re-planning a project after one task estimate changes, incrementally and from scratch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CapacityPlannerBenchmark {
+    @Param({"2000"})
+    private int tasks;
+
+    private CapacityPlanner planner;
+    private Project project;
+    private Task changedTask;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() {
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        LocalDateTime now = LocalDateTime.now();
+        project = new Project("PR001", "Benchmark project", "Capacity planning",
+                now, now.plusMonths(6), Fixtures.manager(0, department, position, schedule));
+        Employee[] team = new Employee[50];
+        for (int i = 0; i < team.length; i++) {
+            team[i] = Fixtures.employee(i, department, position, schedule);
+            project.addParticipant(team[i]);
+        }
+        for (int i = 0; i < tasks; i++) {
+            changedTask = new Task("T" + i, "Task " + i, project, team[i % team.length], now.plusDays(1 + i % 180));
+            changedTask.setEstimatedHours(4 + i % 40);
+        }
+        planner = CapacityPlanner.create();
+        planner.plan(project);
+    }
+
+    @TearDown
+    public void tearDown() {
+        planner.close();
+    }
+
+    @Benchmark
+    public CapacityPlan incrementalReplan() {
+        toggle = !toggle;
+        changedTask.setEstimatedHours(toggle ? 10 : 20);
+        return planner.plan(project);
+    }
+
+    @Benchmark
+    public CapacityPlan fullReplan() {
+        toggle = !toggle;
+        changedTask.setEstimatedHours(toggle ? 10 : 20);
+        planner.invalidate(project);
+        return planner.plan(project);
+    }
+}
@@ -0,0 +1,106 @@
+package company.projects;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.Report;
+import company.structure.TimeSummary;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly time report over approved entries: answered from {@link HourRollups} versus a full entry scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HourRollupsBenchmark {
+    private static final int EMPLOYEES = 200;
+    private static final int TASKS = 50;
+
+    @Param({"100000"})
+    private int entries;
+
+    private HourRollups rollups;
+    private List<TimeEntry> timeEntries;
+    private Manager manager;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+
+    @Setup
+    public void setUp() {
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        manager = Fixtures.manager(0, department, position, schedule);
+        Project project = new Project("PR001", "Benchmark project", "Rollups",
+                LocalDateTime.now().minusYears(1), LocalDateTime.now().plusMonths(3), manager);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Fixtures.employee(i, department, position, schedule));
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task("T" + i, "Task " + i, project, employees.get(i), LocalDateTime.now().plusYears(1)));
+        }
+        rollups = HourRollups.create();
+        periodEnd = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.HOURS);
+        periodStart = periodEnd.minusDays(30);
+        timeEntries = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            LocalDateTime start = periodStart.plusMinutes(i % (30 * 24 * 60));
+            TimeEntry entry = new TimeEntry("TE" + i, employees.get(i % EMPLOYEES), project,
+                    tasks.get(i % TASKS), start);
+            LocalDateTime end = start.plusMinutes(30 + i % 240);
+            entry.stopWork(end.isAfter(periodEnd) ? periodEnd : end);
+            entry.approve();
+            timeEntries.add(entry);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        rollups.close();
+    }
+
+    @Benchmark
+    public TimeSummary fromRollups() {
+        Report report = newReport();
+        report.generateTimeReport(rollups);
+        return report.getTimeSummary();
+    }
+
+    @Benchmark
+    public TimeSummary fromEntries() {
+        Report report = newReport();
+        report.generateTimeReport(timeEntries);
+        return report.getTimeSummary();
+    }
+
+    private Report newReport() {
+        return new Report("R001", "Monthly hours", Report.ReportType.TIME_TRACKING,
+                manager, periodStart, periodEnd);
+    }
+}
@@ -0,0 +1,168 @@
+package company.projects;
+
+import company.empoloyees.*;
+import company.structure.*;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test for {@link TimeEntryIngestService}: starts the service on a free local port
+ * and lets many concurrent clients submit batches of time entries, retrying after a 503.
+ * <p>
+ * Arguments (all optional): clients, batches per client, entries per batch, max in-flight
+ * requests, p99 target in milliseconds. Defaults are 10000, 3, 20, 256 and 500.
+ * Run it from the benchmarks jar with
+ * {@code java -cp benchmarks/target/benchmarks.jar company.projects.IngestLoadTest}.
+ */
+public class IngestLoadTest {
+    private static final int EMPLOYEES = 1000;
+    private static final int PROJECTS = 100;
+    private static final int TASKS_PER_PROJECT = 10;
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int batches = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int maxInFlight = args.length > 3 ? Integer.parseInt(args[3]) : 256;
+        long p99TargetMillis = args.length > 4 ? Long.parseLong(args[4]) : 500;
+
+        // Build a small organisation to book time against
+        Department department = new Department("D001", "IT", "Information Technology Department");
+        Position position = new Position("P001", "Software Developer", "Development of software solutions", 25000, 45000);
+        WorkSchedule schedule = new WorkSchedule("WS001", "Standard Schedule", 5, 8.0,
+                LocalTime.of(9, 0), LocalTime.of(18, 0), Duration.ofHours(1), false);
+        Manager manager = new Manager("M001", "Ivan", "Petrenko", "ivan.petrenko@company.com", "+380931234001",
+                department, position, "2023-01-01", 45000, schedule, true, department);
+        department.setManager(manager);
+
+        EmployeeDirectory directory = EmployeeDirectory.create();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            directory.register(new Employee("E" + i, "First" + i, "Last" + i, "employee" + i + "@company.com",
+                    "+38093" + (1000000 + i), department, position, "2023-01-01", 35000, schedule, true));
+        }
+        Map<String, Project> projects = new HashMap<>();
+        Map<String, Task> tasks = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int p = 0; p < PROJECTS; p++) {
+            Project project = new Project("P" + p, "Project " + p, "Load test project", now, now.plusMonths(6), manager);
+            projects.put(project.getProjectId(), project);
+            for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                Task task = new Task("T" + p + "-" + t, "Task " + t, project, null, now.plusWeeks(4));
+                tasks.put(task.getTaskId(), task);
+            }
+        }
+
+        ExecutorService clientThreads = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientThreads)
+                .build();
+        try (TimeEntryIngestService service = TimeEntryIngestService.start(
+                new InetSocketAddress("127.0.0.1", 0), maxInFlight, directory, projects, tasks)) {
+            URI uri = URI.create("http://127.0.0.1:" + service.getAddress().getPort() + TimeEntryIngestService.PATH);
+            System.out.printf("Ingest service on %s: %d clients x %d batches x %d entries, max in flight %d%n",
+                    uri, clients, batches, batchSize, maxInFlight);
+
+            long[] latencies = new long[clients * batches];
+            AtomicInteger completed = new AtomicInteger();
+            LongAdder retries = new LongAdder();
+            LongAdder failures = new LongAdder();
+            long started = System.nanoTime();
+            CompletableFuture<?>[] runs = new CompletableFuture<?>[clients];
+            for (int c = 0; c < clients; c++) {
+                runs[c] = runClient(client, uri, c, 0, 0, batches, batchSize, latencies, completed, retries, failures);
+            }
+            CompletableFuture.allOf(runs).join();
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            long[] done = Arrays.copyOf(latencies, completed.get());
+            Arrays.sort(done);
+            long p99 = percentile(done, 0.99);
+            System.out.printf("Completed %d requests in %.1f s (%.0f entries/s)%n",
+                    done.length, seconds, service.getAcceptedEntries() / seconds);
+            System.out.printf("Latency ms: p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n",
+                    percentile(done, 0.50) / 1e6, percentile(done, 0.90) / 1e6, p99 / 1e6,
+                    done.length > 0 ? done[done.length - 1] / 1e6 : 0.0);
+            System.out.printf("Accepted entries %d, rejected entries %d, 503 responses %d, failed requests %d%n",
+                    service.getAcceptedEntries(), service.getRejectedEntries(), retries.sum(), failures.sum());
+            System.out.println("p99 target " + p99TargetMillis + " ms: "
+                    + (p99 <= TimeUnit.MILLISECONDS.toNanos(p99TargetMillis) ? "met" : "missed"));
+        } finally {
+            directory.close();
+            clientThreads.shutdown();
+        }
+    }
+
+    // Sends the client's batches one after another; a 503 is retried after a short pause.
+    // Latency is measured per batch from its first attempt, so it includes the retries.
+    private static CompletableFuture<Void> runClient(HttpClient client, URI uri, int clientId, int batch,
+                                                     long batchStarted, int batches,
+                                                     int batchSize, long[] latencies, AtomicInteger completed,
+                                                     LongAdder retries, LongAdder failures) {
+        if (batch == batches) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(batchBody(clientId, batch, batchSize)))
+                .build();
+        long sent = batchStarted != 0 ? batchStarted : System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    if (error == null && response.statusCode() == 503) {
+                        retries.increment();
+                        return CompletableFuture.runAsync(() -> { },
+                                CompletableFuture.delayedExecutor(20 + clientId % 50, TimeUnit.MILLISECONDS))
+                                .thenCompose(ignored -> runClient(client, uri, clientId, batch, sent, batches, batchSize,
+                                        latencies, completed, retries, failures));
+                    }
+                    if (error != null || response.statusCode() != 200) {
+                        failures.increment();
+                    } else {
+                        latencies[completed.getAndIncrement()] = System.nanoTime() - sent;
+                    }
+                    return runClient(client, uri, clientId, batch + 1, 0, batches, batchSize,
+                            latencies, completed, retries, failures);
+                })
+                .thenCompose(next -> next);
+    }
+
+    private static String batchBody(int clientId, int batch, int batchSize) {
+        StringBuilder body = new StringBuilder(batchSize * 96);
+        LocalDateTime day = LocalDateTime.now().minusDays(1 + batch).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        for (int i = 0; i < batchSize; i++) {
+            int project = (clientId + i) % PROJECTS;
+            LocalDateTime start = day.plusMinutes(i % 36 * 20L);
+            body.append("TE").append(clientId).append('-').append(batch).append('-').append(i).append('\t')
+                    .append('E').append((clientId * 7 + i) % EMPLOYEES).append('\t')
+                    .append('P').append(project).append('\t')
+                    .append('T').append(project).append('-').append(i % TASKS_PER_PROJECT).append('\t')
+                    .append(start).append('\t')
+                    .append(start.plusMinutes(15)).append('\t')
+                    .append("Load test entry\n");
+        }
+        return body.toString();
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,81 @@
+package company.projects;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Membership checks on large participant lists: {@link Project#addParticipant(Employee)}
+ * and {@link Project#changeProjectManager(Manager)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectBenchmark {
+    @Param({"100", "20000"})
+    private int participants;
+
+    private Project project;
+    private Employee lastParticipant;
+    private Employee outsider;
+    private Manager firstManager;
+    private Manager secondManager;
+    private boolean useFirstManager;
+
+    @Setup
+    public void setUp() {
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        firstManager = Fixtures.manager(0, department, position, schedule);
+        project = new Project("PR001", "Benchmark project", "Large participant list",
+                LocalDateTime.now(), LocalDateTime.now().plusMonths(3), firstManager);
+        for (int i = 0; i < participants; i++) {
+            lastParticipant = Fixtures.employee(i, department, position, schedule);
+            project.addParticipant(lastParticipant);
+        }
+        secondManager = Fixtures.manager(1, department, position, schedule);
+        project.addParticipant(secondManager);
+        outsider = Fixtures.employee(participants, department, position, schedule);
+    }
+
+    @Benchmark
+    public Project addExistingParticipant() {
+        project.addParticipant(lastParticipant);
+        return project;
+    }
+
+    @Benchmark
+    public Project addAndRemoveParticipant() {
+        project.addParticipant(outsider);
+        project.removeParticipant(outsider);
+        return project;
+    }
+
+    @Benchmark
+    public Project changeProjectManager() {
+        useFirstManager = !useFirstManager;
+        project.changeProjectManager(useFirstManager ? firstManager : secondManager);
+        return project;
+    }
+}
@@ -0,0 +1,95 @@
+package company.projects;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Who can do Java and SQL, least loaded first" over employees spread across departments
+ * and positions with overlapping skill sets; every other position lacks SQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SkillMatcherBenchmark {
+    private static final int DEPARTMENTS = 100;
+    private static final int POSITIONS = 40;
+    private static final String[] SKILLS = {"Java", "SQL", "Kotlin", "Go", "Python", "Docker", "React", "Excel"};
+    private static final List<String> JAVA_AND_SQL = List.of("Java", "SQL");
+
+    @Param({"500000"})
+    private int employees;
+
+    private SkillMatcher matcher;
+    private Department it;
+
+    @Setup
+    public void setUp() {
+        matcher = SkillMatcher.create();
+        WorkSchedule schedule = Fixtures.schedule();
+        Department[] departments = new Department[DEPARTMENTS];
+        for (int i = 0; i < DEPARTMENTS; i++) {
+            departments[i] = Fixtures.department("D" + i);
+        }
+        it = departments[0];
+        Position[] positions = new Position[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+            positions[i] = new Position("P" + i, "Position " + i, "Benchmark position", 25000, 45000);
+            positions[i].addRequiredSkill("Java");
+            if (i % 2 == 0) {
+                positions[i].addRequiredSkill("SQL");
+            }
+            positions[i].addRequiredSkill(SKILLS[2 + i % (SKILLS.length - 2)]);
+        }
+        List<Employee> staff = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            staff.add(Fixtures.employee(i, departments[i % DEPARTMENTS], positions[i % POSITIONS], schedule));
+        }
+        matcher.indexEmployees(staff);
+        Project project = new Project("PR001", "Benchmark project", "Skill matching",
+                LocalDateTime.now(), LocalDateTime.now().plusYears(1),
+                Fixtures.manager(0, it, positions[0], schedule));
+        for (int i = 0; i < employees / 10; i++) {
+            Task task = new Task("T" + i, "Task " + i, project, staff.get(i * 7 % employees),
+                    LocalDateTime.now().plusDays(7));
+            task.setEstimatedHours(1 + i % 40);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        matcher.close();
+    }
+
+    @Benchmark
+    public List<SkillMatcher.Candidate> javaAndSqlInDepartment() {
+        return matcher.findCandidates(JAVA_AND_SQL, it, 20);
+    }
+
+    @Benchmark
+    public List<SkillMatcher.Candidate> javaAndSqlAnywhere() {
+        return matcher.findCandidates(JAVA_AND_SQL, null, 20);
+    }
+}
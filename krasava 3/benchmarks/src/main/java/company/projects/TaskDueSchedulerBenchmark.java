@@ -0,0 +1,100 @@
+package company.projects;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one scheduler tick and of rescheduling one task with millions of tasks waiting
+ * on the wheel. Due dates are spread over a year, so most ticks fire nothing and the tick
+ * cost is the wheel's own overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TaskDueSchedulerBenchmark {
+    @Param({"100000", "1000000"})
+    public int tasks;
+
+    private final long[] now = {System.currentTimeMillis()};
+    private TaskDueScheduler scheduler;
+    private Task[] created;
+    private LocalDateTime base;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        Employee employee = Fixtures.employee(1, department, position, schedule);
+        Project project = new Project("PR001", "Benchmark project", "Due scheduler",
+                LocalDateTime.now(), LocalDateTime.now().plusYears(5),
+                Fixtures.manager(0, department, position, schedule));
+        scheduler = TaskDueScheduler.create(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.systemDefault();
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now[0]);
+            }
+        }, Duration.ofSeconds(1), Duration.ofHours(1), Duration.ofDays(1), new TaskDueListener() {
+        });
+        base = LocalDateTime.now().plusDays(1);
+        long spreadSeconds = Duration.ofDays(365).getSeconds();
+        created = new Task[tasks];
+        for (int i = 0; i < tasks; i++) {
+            created[i] = new Task("T" + i, "Task " + i, project, employee, base.plusSeconds(i * spreadSeconds / tasks));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    @Benchmark
+    public int tick() {
+        now[0] += 1000;
+        return scheduler.advance();
+    }
+
+    @Benchmark
+    public void reschedule() {
+        int i = next++;
+        created[i % tasks].updateDueDate(base.plusDays(30 + i % 300));
+    }
+}
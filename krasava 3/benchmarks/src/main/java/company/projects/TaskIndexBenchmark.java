@@ -0,0 +1,91 @@
+package company.projects;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-N and due-date range queries over open tasks spread across every priority, plus
+ * the cost of moving one task between buckets when its priority changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TaskIndexBenchmark {
+    private static final Set<Task.TaskPriority> CRITICAL = EnumSet.of(Task.TaskPriority.CRITICAL);
+
+    @Param({"100000", "1000000"})
+    public int tasks;
+
+    private TaskIndex index;
+    private Task[] created;
+    private LocalDateTime weekStart;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        Employee employee = Fixtures.employee(1, department, position, schedule);
+        Project project = new Project("PR001", "Benchmark project", "Task index",
+                LocalDateTime.now(), LocalDateTime.now().plusYears(5),
+                Fixtures.manager(0, department, position, schedule));
+        index = TaskIndex.create();
+        Task.TaskPriority[] priorities = Task.TaskPriority.values();
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        created = new Task[tasks];
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task("T" + i, "Task " + i, project, employee, base.plusMinutes(i));
+            task.setPriority(priorities[i % priorities.length]);
+            created[i] = task;
+        }
+        weekStart = base.plusMinutes(tasks / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.close();
+    }
+
+    @Benchmark
+    public List<Task> earliestCriticalOpen() {
+        return index.findEarliestDue(TaskIndex.OPEN_STATUSES, CRITICAL, 20);
+    }
+
+    @Benchmark
+    public List<Task> criticalDueThisWeek() {
+        return index.findDue(TaskIndex.OPEN_STATUSES, CRITICAL, weekStart, weekStart.plusWeeks(1), 100);
+    }
+
+    @Benchmark
+    public void changePriority() {
+        Task task = created[next++ % tasks];
+        Task.TaskPriority[] priorities = Task.TaskPriority.values();
+        task.setPriority(priorities[(task.getPriority().ordinal() + 1) % priorities.length]);
+    }
+}
@@ -0,0 +1,76 @@
+package company.projects;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The approval cascade: {@link TimeEntry#approve()} into {@link Task#logMinutes(long)}
+ * into {@link Project#updateActualMinutes(long)}. Each invocation creates, stops and
+ * approves a fresh entry because approving an entry twice is a no-op. Tasks keep every entry
+ * they are given and projects keep their tasks, so each iteration books onto a new project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeEntryApprovalBenchmark {
+    private Employee employee;
+    private Manager manager;
+    private Project project;
+    private Task task;
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    @Setup
+    public void setUp() {
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        employee = Fixtures.employee(1, department, position, schedule);
+        manager = Fixtures.manager(0, department, position, schedule);
+        end = LocalDateTime.now().minusDays(1);
+        start = end.minusHours(4);
+    }
+
+    @Setup(Level.Iteration)
+    public void newProject() {
+        project = new Project("PR001", "Benchmark project", "Approval cascade",
+                LocalDateTime.now(), LocalDateTime.now().plusMonths(3), manager);
+        task = new Task("T001", "Benchmark task", project, employee, LocalDateTime.now().plusYears(1));
+    }
+
+    @Benchmark
+    public TimeEntry createStopApprove() {
+        TimeEntry entry = new TimeEntry("TE001", employee, project, task, start);
+        entry.stopWork(end);
+        entry.approve();
+        return entry;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public TimeEntry createStopApproveContended() {
+        return createStopApprove();
+    }
+}
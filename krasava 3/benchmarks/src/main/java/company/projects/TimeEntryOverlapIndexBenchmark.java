@@ -0,0 +1,78 @@
+package company.projects;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlap check and point query against one employee's history of back-to-back
+ * half-hour entries; {@link TimeEntryOverlapIndex#onStopping} runs the same lookup
+ * as {@link TimeEntryOverlapIndex#findOverlap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeEntryOverlapIndexBenchmark {
+    @Param({"1000", "100000"})
+    public int entries;
+
+    private TimeEntryOverlapIndex index;
+    private Employee employee;
+    private LocalDateTime first;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        employee = Fixtures.employee(1, department, position, schedule);
+        Project project = new Project("PR001", "Benchmark project", "Overlap index",
+                LocalDateTime.now(), LocalDateTime.now().plusMonths(3),
+                Fixtures.manager(0, department, position, schedule));
+        index = TimeEntryOverlapIndex.create(TimeEntryOverlapIndex.Policy.REJECT);
+        first = LocalDateTime.now().minusDays(1).minusMinutes(30L * entries);
+        for (int i = 0; i < entries; i++) {
+            LocalDateTime start = first.plusMinutes(30L * i);
+            new TimeEntry("TE" + i, employee, project, null, start).stopWork(start.plusMinutes(30));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.close();
+    }
+
+    @Benchmark
+    public TimeEntry findOverlap() {
+        LocalDateTime start = first.plusMinutes(30L * (next++ % entries) + 10);
+        return index.findOverlap(employee, start, start.plusMinutes(5));
+    }
+
+    @Benchmark
+    public List<TimeEntry> entriesAt() {
+        return index.getEntriesAt(employee, first.plusMinutes(30L * (next++ % entries) + 10));
+    }
+}
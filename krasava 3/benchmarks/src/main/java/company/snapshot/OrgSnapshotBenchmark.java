@@ -0,0 +1,98 @@
+package company.snapshot;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.projects.Project;
+import company.projects.Task;
+import company.projects.TimeEntry;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving and loading an org graph with {@link OrgSnapshot}, from and to memory so disk speed
+ * does not count. Each project has 10 tasks with 10 time entries each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrgSnapshotBenchmark {
+    @Param({"100000"})
+    private int employees;
+
+    private OrgSnapshot snapshot;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        List<Department> departments = new ArrayList<>();
+        List<Manager> managers = new ArrayList<>();
+        for (int d = 0; d < 10; d++) {
+            Department department = Fixtures.department("D" + d);
+            Manager manager = Fixtures.manager(d, department, position, schedule);
+            department.setManager(manager);
+            departments.add(department);
+            managers.add(manager);
+        }
+        List<Employee> staff = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            staff.add(Fixtures.employee(i, departments.get(i % departments.size()), position, schedule));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Project> projects = new ArrayList<>();
+        int entry = 0;
+        for (int p = 0; p < employees / 100; p++) {
+            Project project = new Project("PR" + p, "Project " + p, "Benchmark project",
+                    now, now.plusMonths(6), managers.get(p % managers.size()));
+            projects.add(project);
+            for (int t = 0; t < 10; t++) {
+                Task task = new Task("T" + p + "-" + t, "Task " + t, project, null, now.plusWeeks(t + 1));
+                for (int e = 0; e < 10; e++, entry++) {
+                    TimeEntry timeEntry = new TimeEntry("TE" + entry, staff.get(entry % employees), project, task,
+                            now.minusDays(1).plusMinutes(e * 30));
+                    timeEntry.stopWork(now.minusDays(1).plusMinutes(e * 30 + 25));
+                }
+            }
+        }
+        snapshot = new OrgSnapshot(departments, staff, projects, List.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.write(out);
+        bytes = out.toByteArray();
+    }
+
+    @Benchmark
+    public OrgSnapshot read() throws IOException {
+        return OrgSnapshot.read(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        snapshot.write(OutputStream.nullOutputStream());
+    }
+}
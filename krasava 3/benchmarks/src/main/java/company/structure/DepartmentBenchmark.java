@@ -0,0 +1,70 @@
+package company.structure;
+
+import company.bench.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Budget dashboard reads: {@link Department#getTotalSalaries()} and {@link Department#isWithinBudget()},
+ * plus capacity queries over the members' schedule bitmaps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DepartmentBenchmark {
+    @Param({"100", "20000"})
+    private int employees;
+
+    private static final LocalDateTime MONTH_START = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final LocalDateTime MONTH_END = LocalDateTime.of(2024, 4, 1, 0, 0);
+    private static final LocalDateTime WEDNESDAY_NOON = LocalDateTime.of(2024, 3, 6, 12, 30);
+
+    private Department department;
+
+    @Setup
+    public void setUp() {
+        department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        department.setManager(Fixtures.manager(0, department, position, schedule));
+        for (int i = 0; i < employees; i++) {
+            department.addEmployee(Fixtures.employee(i, department, position, schedule));
+        }
+        department.setBudget(employees * 40000.0);
+    }
+
+    @Benchmark
+    public double totalSalaries() {
+        return department.getTotalSalaries();
+    }
+
+    @Benchmark
+    public boolean withinBudget() {
+        return department.isWithinBudget();
+    }
+
+    @Benchmark
+    public long workingMinutesForMonth() {
+        return department.getWorkingMinutesBetween(MONTH_START, MONTH_END);
+    }
+
+    @Benchmark
+    public int workingAt() {
+        return department.countWorkingAt(WEDNESDAY_NOON);
+    }
+}
@@ -0,0 +1,70 @@
+package company.structure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding cost of {@link ReportExporter} per format, written to a channel that discards the bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportExportBenchmark {
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"CSV", "JSONL", "BINARY"})
+    private ExportFormat format;
+
+    private ReportData data;
+    private final WritableByteChannel discard = new WritableByteChannel() {
+        @Override
+        public int write(ByteBuffer src) {
+            int bytes = src.remaining();
+            src.position(src.limit());
+            return bytes;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        List<ReportData.Row> list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            list.add(new ReportData.Row("E" + i, "EMPLOYEE", i * 0.25, i % 17, 1000.0 / (i + 1)));
+        }
+        data = new ReportData(List.of("hours", "tasks", "rate"), list);
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        return ReportExporter.export(data, format, discard);
+    }
+}
@@ -0,0 +1,112 @@
+package company.structure;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.projects.Project;
+import company.projects.Task;
+import company.projects.TimeEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the fork/join report generators with pool parallelism.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportGeneratorBenchmark {
+    private static final int PROJECTS = 20;
+    private static final int TASKS_PER_PROJECT = 50;
+    private static final int ENTRIES_PER_TASK = 200;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    private ReportGenerator generator;
+    private List<Department> departments;
+    private List<Project> projects;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        LocalDateTime periodEnd = LocalDateTime.now().minusDays(1);
+        LocalDateTime periodStart = periodEnd.minusDays(30);
+        generator = new ReportGenerator(pool, periodStart, periodEnd);
+
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        Manager manager = Fixtures.manager(0, department, position, schedule);
+        department.setManager(manager);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Employee employee = Fixtures.employee(i, department, position, schedule);
+            department.addEmployee(employee);
+            employees.add(employee);
+        }
+        departments = List.of(department);
+
+        projects = new ArrayList<>();
+        int entryId = 0;
+        for (int p = 0; p < PROJECTS; p++) {
+            Project project = new Project("PR" + p, "Project " + p, "Report scaling",
+                    LocalDateTime.now(), LocalDateTime.now().plusMonths(3), manager);
+            for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                Employee assignee = employees.get((p * TASKS_PER_PROJECT + t) % employees.size());
+                Task task = new Task("T" + p + "-" + t, "Task " + t, project, assignee, LocalDateTime.now().plusYears(1));
+                for (int e = 0; e < ENTRIES_PER_TASK; e++) {
+                    LocalDateTime start = periodStart.plusMinutes(entryId % (30 * 24 * 60));
+                    TimeEntry entry = new TimeEntry("TE" + entryId++, assignee, project, task, start);
+                    entry.stopWork(start.plusMinutes(45));
+                }
+            }
+            projects.add(project);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public TimeSummary timeTracking() {
+        return generator.timeTracking(projects);
+    }
+
+    @Benchmark
+    public ReportData projectProgress() {
+        return generator.projectProgress(projects);
+    }
+
+    @Benchmark
+    public ReportData employeePerformance() {
+        return generator.employeePerformance(projects);
+    }
+
+    @Benchmark
+    public ReportData departmentSummary() {
+        return generator.departmentSummary(departments);
+    }
+}
@@ -0,0 +1,83 @@
+package company.structure;
+
+import company.bench.Fixtures;
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.projects.Project;
+import company.projects.Task;
+import company.projects.TimeEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass time report generation through {@link Report#generateTimeReport(List)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeReportBenchmark {
+    private static final int EMPLOYEES = 200;
+    private static final int TASKS = 50;
+
+    @Param({"100000"})
+    private int entries;
+
+    private List<TimeEntry> timeEntries;
+    private Manager manager;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+
+    @Setup
+    public void setUp() {
+        Department department = Fixtures.department("D001");
+        Position position = Fixtures.position();
+        WorkSchedule schedule = Fixtures.schedule();
+        manager = Fixtures.manager(0, department, position, schedule);
+        Project project = new Project("PR001", "Benchmark project", "Time report",
+                LocalDateTime.now(), LocalDateTime.now().plusMonths(3), manager);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Fixtures.employee(i, department, position, schedule));
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task("T" + i, "Task " + i, project, employees.get(i), LocalDateTime.now().plusYears(1)));
+        }
+        periodEnd = LocalDateTime.now().minusDays(1);
+        periodStart = periodEnd.minusDays(30);
+        timeEntries = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            LocalDateTime start = periodStart.plusMinutes(i % (30 * 24 * 60));
+            TimeEntry entry = new TimeEntry("TE" + i, employees.get(i % EMPLOYEES), project,
+                    tasks.get(i % TASKS), start);
+            LocalDateTime end = start.plusMinutes(30 + i % 240);
+            entry.stopWork(end.isAfter(periodEnd) ? periodEnd : end);
+            timeEntries.add(entry);
+        }
+    }
+
+    @Benchmark
+    public TimeSummary generateTimeReport() {
+        Report report = new Report("R001", "Monthly hours", Report.ReportType.TIME_TRACKING,
+                manager, periodStart, periodEnd);
+        report.generateTimeReport(timeEntries);
+        return report.getTimeSummary();
+    }
+}
@@ -4,9 +4,11 @@ import company.structure.Department;
 import company.structure.Position;
 import company.structure.WorkSchedule;
 
+import java.time.LocalDate;
+
 public class Admin extends Employee {
     private String adminId;
-    private boolean fullAccess;
+    private long permissionMask;
     private String lastLoginDate;
 
     public Admin(String employeeId, String firstName, String lastName, String email,
@@ -16,14 +18,31 @@ public class Admin extends Employee {
         super(employeeId, firstName, lastName, email, phoneNumber,
               department, position, hireDate, salary, workSchedule, isActive);
         this.adminId = adminId;
-        this.fullAccess = fullAccess;
+        this.permissionMask = fullAccess ? Permission.ALL : 0;
     }
+
+    // Trusted constructor for pre-validated values, see Employee
+    Admin(String employeeId, String firstName, String lastName, String email,
+          String phoneNumber, Department department, Position position,
+          LocalDate hireDate, double salary, WorkSchedule workSchedule,
+          boolean isActive, String adminId, long permissionMask, String lastLoginDate) {
+        super(employeeId, firstName, lastName, email, phoneNumber,
+              department, position, hireDate, salary, workSchedule, isActive);
+        this.adminId = adminId;
+        this.permissionMask = permissionMask;
+        this.lastLoginDate = lastLoginDate;
+    }
+
     void grantAccess(Employee employee, String accessLevel) {
-        if (fullAccess) {
+        if (hasFullAccess()) {
             System.out.println("Access granted to " + employee.getFullName() + 
                              " with level: " + accessLevel);
         }
     }
-    public boolean hasFullAccess() { return fullAccess; }
+    public boolean hasFullAccess() { return permissionMask == Permission.ALL; }
+    public boolean hasPermission(Permission permission) { return (permissionMask & permission.mask()) != 0; }
+    public boolean hasAllPermissions(long mask) { return (permissionMask & mask) == mask; }
     public String getLastLoginDate() { return lastLoginDate; }
+    public long getPermissionMask() { return permissionMask; }
+    String getAdminId() { return adminId; }
 }
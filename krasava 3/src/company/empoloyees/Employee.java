@@ -1,14 +1,15 @@
 package company.empoloyees;
 
+import company.monitoring.Metrics;
 import company.structure.Department;
 import company.structure.Position;
 import company.structure.WorkSchedule;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.Collections;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 /**
  * Employee class represents a company employee with all their relevant information.
@@ -16,8 +17,6 @@ import java.util.regex.Pattern;
  */
 public class Employee {
     // Constants for validation
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
-    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[1-9]\\d{1,14}$");
     private static final double MIN_SALARY = 0.0;
 
     // Immutable fields
@@ -31,9 +30,12 @@ public class Employee {
     private String phoneNumber;
     private Department department;
     private Position position;
-    private double salary;
+    private volatile double salary;
     private WorkSchedule workSchedule;
-    private boolean isActive;
+    private volatile boolean isActive;
+    // Rosters this employee is on, held weakly and by identity (rosters do not override equals);
+    // salary changes are applied to them under this set's lock
+    private final Set<EmployeeRoster> rosters = Collections.newSetFromMap(new WeakHashMap<>());
 
     /**
      * Creates a new Employee with the specified details.
@@ -45,6 +47,7 @@ public class Employee {
     public Employee(String employeeId, String firstName, String lastName, String email, 
                    String phoneNumber, Department department, Position position, 
                    String hireDate, double salary, WorkSchedule workSchedule) {
+        long start = Metrics.start();
         // Validate all required fields
         this.employeeId = validateEmployeeId(employeeId);
         this.firstName = validateName(firstName, "First name");
@@ -57,6 +60,7 @@ public class Employee {
         this.salary = validateSalary(salary);
         this.workSchedule = Objects.requireNonNull(workSchedule, "Work schedule cannot be null");
         this.isActive = true;
+        Metrics.EMPLOYEE_CREATE.record(start);
     }
 
     /**
@@ -69,6 +73,28 @@ public class Employee {
         this.isActive = isActive;
     }
 
+    /**
+     * Trusted constructor for values that have already been validated and trimmed,
+     * e.g. by {@link EmployeeImporter}. Only null checks are repeated.
+     */
+    Employee(String employeeId, String firstName, String lastName, String email,
+             String phoneNumber, Department department, Position position,
+             LocalDate hireDate, double salary, WorkSchedule workSchedule, boolean isActive) {
+        long start = Metrics.start();
+        this.employeeId = Objects.requireNonNull(employeeId, "Employee ID cannot be null");
+        this.firstName = Objects.requireNonNull(firstName, "First name cannot be null");
+        this.lastName = Objects.requireNonNull(lastName, "Last name cannot be null");
+        this.email = Objects.requireNonNull(email, "Email cannot be null");
+        this.phoneNumber = Objects.requireNonNull(phoneNumber, "Phone number cannot be null");
+        this.department = Objects.requireNonNull(department, "Department cannot be null");
+        this.position = Objects.requireNonNull(position, "Position cannot be null");
+        this.hireDate = Objects.requireNonNull(hireDate, "Hire date cannot be null");
+        this.salary = salary;
+        this.workSchedule = Objects.requireNonNull(workSchedule, "Work schedule cannot be null");
+        this.isActive = isActive;
+        Metrics.EMPLOYEE_CREATE.record(start);
+    }
+
     // Getters
     public String getEmployeeId() { return employeeId; }
     public String getFirstName() { return firstName; }
@@ -84,37 +110,81 @@ public class Employee {
     public boolean isActive() { return isActive; }
 
     // Update methods with validation
-    public void updateEmail(String newEmail) {
+    public synchronized void updateEmail(String newEmail) {
+        String oldEmail = this.email;
         this.email = validateEmail(newEmail);
+        EmployeeEvents.fireEmailChanged(this, oldEmail);
     }
 
     public void updatePhoneNumber(String newPhoneNumber) {
         this.phoneNumber = validatePhoneNumber(newPhoneNumber);
     }
 
-    public void transferToDepartment(Department newDepartment) {
-        this.department = Objects.requireNonNull(newDepartment, "Department cannot be null");
+    /**
+     * Moves the employee to another department. If the employee is on the old
+     * department's roster, they are moved to the new roster together with their salary.
+     */
+    public synchronized void transferToDepartment(Department newDepartment) {
+        Objects.requireNonNull(newDepartment, "Department cannot be null");
+        Department oldDepartment = this.department;
+        if (oldDepartment.equals(newDepartment)) {
+            return;
+        }
+        this.department = newDepartment;
+        EmployeeEvents.fireDepartmentChanged(this, oldDepartment);
     }
 
-    public void updatePosition(Position newPosition) {
+    public synchronized void updatePosition(Position newPosition) {
+        Position oldPosition = this.position;
         this.position = Objects.requireNonNull(newPosition, "Position cannot be null");
+        EmployeeEvents.firePositionChanged(this, oldPosition);
     }
 
-    public void adjustSalary(double amount) {
-        double newSalary = this.salary + amount;
-        this.salary = validateSalary(newSalary);
+    public synchronized void adjustSalary(double amount) {
+        double oldSalary = this.salary;
+        double newSalary = validateSalary(oldSalary + amount);
+        synchronized (rosters) {
+            this.salary = newSalary;
+            for (EmployeeRoster roster : rosters) {
+                roster.salaryChanged(oldSalary, newSalary);
+            }
+        }
+        EmployeeEvents.fireSalaryChanged(this, oldSalary);
     }
 
-    public void updateWorkSchedule(WorkSchedule newSchedule) {
+    public synchronized void updateWorkSchedule(WorkSchedule newSchedule) {
+        WorkSchedule oldSchedule = this.workSchedule;
         this.workSchedule = Objects.requireNonNull(newSchedule, "Work schedule cannot be null");
+        EmployeeEvents.fireScheduleChanged(this, oldSchedule);
     }
 
-    public void deactivate() {
-        this.isActive = false;
+    public synchronized void deactivate() {
+        if (isActive) {
+            this.isActive = false;
+            EmployeeEvents.fireActiveChanged(this);
+        }
     }
 
-    public void reactivate() {
-        this.isActive = true;
+    public synchronized void reactivate() {
+        if (!isActive) {
+            this.isActive = true;
+            EmployeeEvents.fireActiveChanged(this);
+        }
+    }
+
+    // Package-private roster bookkeeping used by EmployeeRoster
+    void joinRoster(EmployeeRoster roster) {
+        synchronized (rosters) {
+            rosters.add(roster);
+            roster.salaryChanged(0, salary);
+        }
+    }
+
+    void leaveRoster(EmployeeRoster roster) {
+        synchronized (rosters) {
+            rosters.remove(roster);
+            roster.salaryChanged(salary, 0);
+        }
     }
 
     @Override
@@ -123,6 +193,19 @@ public class Employee {
                 employeeId, getFullName(), department.getName(), position.getTitle(), hireDate, isActive);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Employee employee = (Employee) o;
+        return employeeId.equals(employee.employeeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employeeId);
+    }
+
     // Validation methods
     private static String validateEmployeeId(String employeeId) {
         if (employeeId == null || employeeId.trim().isEmpty()) {
@@ -143,7 +226,7 @@ public class Employee {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
         String trimmedEmail = email.trim();
-        if (!EMAIL_PATTERN.matcher(trimmedEmail).matches()) {
+        if (!EmployeeValidation.isValidEmail(trimmedEmail)) {
             throw new IllegalArgumentException("Invalid email format");
         }
         return trimmedEmail;
@@ -154,7 +237,7 @@ public class Employee {
             throw new IllegalArgumentException("Phone number cannot be null or empty");
         }
         String trimmedPhone = phoneNumber.trim();
-        if (!PHONE_PATTERN.matcher(trimmedPhone).matches()) {
+        if (!EmployeeValidation.isValidPhoneNumber(trimmedPhone)) {
             throw new IllegalArgumentException("Invalid phone number format");
         }
         return trimmedPhone;
@@ -162,15 +245,14 @@ public class Employee {
 
     private static LocalDate validateHireDate(String hireDate) {
         Objects.requireNonNull(hireDate, "Hire date cannot be null");
-        try {
-            LocalDate date = LocalDate.parse(hireDate, DateTimeFormatter.ISO_DATE);
-            if (date.isAfter(LocalDate.now())) {
-                throw new IllegalArgumentException("Hire date cannot be in the future");
-            }
-            return date;
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid hire date format. Use ISO date format (YYYY-MM-DD)", e);
+        LocalDate date = EmployeeValidation.parseIsoDate(hireDate);
+        if (date == null) {
+            throw new IllegalArgumentException("Invalid hire date format. Use ISO date format (YYYY-MM-DD)");
+        }
+        if (date.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Hire date cannot be in the future");
         }
+        return date;
     }
 
     private static double validateSalary(double salary) {
@@ -0,0 +1,528 @@
+package company.empoloyees;
+
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-process history of employee salaries, departments, positions, schedules and active flags,
+ * built from {@link EmployeeEvents}.
+ * <p>
+ * Every change is appended as one fixed-size record to parallel primitive arrays; departments,
+ * positions and schedules are stored as indexes into a reference table. An employee enters the
+ * log with a baseline of their current state, either through {@link #track(Collection)} or on
+ * their first change, and is unknown before that point.
+ * <p>
+ * A full copy of all employee states is kept every {@code max(4096, employees)} records, so
+ * {@link #at(Instant)} replays at most one interval on top of the closest earlier copy instead
+ * of the whole log. Queries read only records that were complete when they started and do not
+ * block writers while replaying.
+ */
+public final class EmployeeChangeLog implements EmployeeListener, AutoCloseable {
+    private static final int MIN_SNAPSHOT_INTERVAL = 4096;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final byte TRACKED = 0;
+    private static final byte SALARY = 1;
+    private static final byte DEPARTMENT = 2;
+    private static final byte POSITION = 3;
+    private static final byte SCHEDULE = 4;
+    private static final byte ACTIVE = 5;
+
+    private final Clock clock;
+
+    // Change records; for TRACKED the value is unused and the baseline arrays hold the state
+    private long[] times;
+    private byte[] kinds;
+    private int[] subjects;
+    private long[] values;
+    private int size;
+    private long lastTime;
+
+    // Dense employee indexes with the state each employee was first seen with
+    private final Map<Employee, Integer> employeeIndex;
+    private Employee[] employees;
+    private Baseline baseline;
+
+    // Departments, positions and schedules referenced by the records
+    private final Map<Object, Integer> referenceIndex;
+    private Object[] references;
+
+    // State after all records so far, and copies of it taken at earlier points
+    private State current;
+    private final List<State> snapshots;
+
+    private EmployeeChangeLog(Clock clock) {
+        this.clock = clock;
+        this.times = new long[INITIAL_CAPACITY];
+        this.kinds = new byte[INITIAL_CAPACITY];
+        this.subjects = new int[INITIAL_CAPACITY];
+        this.values = new long[INITIAL_CAPACITY];
+        this.lastTime = Long.MIN_VALUE;
+        this.employeeIndex = new IdentityHashMap<>();
+        this.employees = new Employee[INITIAL_CAPACITY];
+        this.baseline = new Baseline(INITIAL_CAPACITY);
+        this.referenceIndex = new IdentityHashMap<>();
+        this.references = new Object[64];
+        this.current = new State(0, INITIAL_CAPACITY);
+        this.snapshots = new ArrayList<>();
+        this.snapshots.add(current.copy(0));
+    }
+
+    public static EmployeeChangeLog create() {
+        return create(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a log that is already subscribed to employee events.
+     *
+     * @param clock source of the time stamp of each record
+     */
+    public static EmployeeChangeLog create(Clock clock) {
+        EmployeeChangeLog log = new EmployeeChangeLog(Objects.requireNonNull(clock, "Clock cannot be null"));
+        EmployeeEvents.register(log);
+        return log;
+    }
+
+    /**
+     * Records the current state of employees that are not in the log yet, so that queries
+     * from now on know them even if they never change.
+     */
+    public void track(Collection<? extends Employee> employees) {
+        Objects.requireNonNull(employees, "Employees cannot be null");
+        for (Employee employee : employees) {
+            Objects.requireNonNull(employee, "Employee cannot be null");
+            synchronized (employee) {
+                synchronized (this) {
+                    if (!employeeIndex.containsKey(employee)) {
+                        enroll(employee, employee.getSalary(), employee.getDepartment(), employee.getPosition(),
+                                employee.getWorkSchedule(), employee.isActive(), now());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the state of all known employees as of the given instant.
+     */
+    public View at(Instant time) {
+        Objects.requireNonNull(time, "Time cannot be null");
+        long millis = time.toEpochMilli();
+        State start;
+        long[] times;
+        byte[] kinds;
+        int[] subjects;
+        long[] values;
+        int end;
+        Employee[] employees;
+        Baseline baseline;
+        Object[] references;
+        synchronized (this) {
+            end = upperBound(this.times, size, millis);
+            start = snapshots.get(snapshotBefore(end));
+            times = this.times;
+            kinds = this.kinds;
+            subjects = this.subjects;
+            values = this.values;
+            employees = this.employees;
+            baseline = this.baseline;
+            references = this.references;
+        }
+        // Arrays are only ever appended to or replaced by larger copies, so the records below end stay valid
+        State state = start.copy(end);
+        for (int i = start.position; i < end; i++) {
+            state.apply(kinds[i], subjects[i], values[i], baseline);
+        }
+        return new View(this, state, time, employees, references);
+    }
+
+    /**
+     * Returns the state as of the given local time, interpreted in the zone of this log's clock.
+     */
+    public View at(LocalDateTime time) {
+        Objects.requireNonNull(time, "Time cannot be null");
+        return at(time.atZone(clock.getZone()).toInstant());
+    }
+
+    // Getters
+    public synchronized int getEventCount() { return size; }
+    public synchronized int getEmployeeCount() { return employeeIndex.size(); }
+    public synchronized int getSnapshotCount() { return snapshots.size(); }
+
+    // Listener callbacks, invoked while the employee's lock is held.
+    // An employee seen for the first time is enrolled with the state from before the change.
+    @Override
+    public synchronized void onSalaryChanged(Employee employee, double oldSalary) {
+        enrollIfAbsent(employee, oldSalary, employee.getDepartment(), employee.getPosition(),
+                employee.getWorkSchedule(), employee.isActive());
+        append(SALARY, employee, Double.doubleToLongBits(employee.getSalary()));
+    }
+
+    @Override
+    public synchronized void onDepartmentChanged(Employee employee, Department oldDepartment) {
+        enrollIfAbsent(employee, employee.getSalary(), oldDepartment, employee.getPosition(),
+                employee.getWorkSchedule(), employee.isActive());
+        append(DEPARTMENT, employee, reference(employee.getDepartment()));
+    }
+
+    @Override
+    public synchronized void onPositionChanged(Employee employee, Position oldPosition) {
+        enrollIfAbsent(employee, employee.getSalary(), employee.getDepartment(), oldPosition,
+                employee.getWorkSchedule(), employee.isActive());
+        append(POSITION, employee, reference(employee.getPosition()));
+    }
+
+    @Override
+    public synchronized void onScheduleChanged(Employee employee, WorkSchedule oldSchedule) {
+        enrollIfAbsent(employee, employee.getSalary(), employee.getDepartment(), employee.getPosition(),
+                oldSchedule, employee.isActive());
+        append(SCHEDULE, employee, reference(employee.getWorkSchedule()));
+    }
+
+    @Override
+    public synchronized void onActiveChanged(Employee employee) {
+        enrollIfAbsent(employee, employee.getSalary(), employee.getDepartment(), employee.getPosition(),
+                employee.getWorkSchedule(), !employee.isActive());
+        append(ACTIVE, employee, employee.isActive() ? 1 : 0);
+    }
+
+    @Override
+    public void close() {
+        EmployeeEvents.unregister(this);
+    }
+
+    synchronized int indexOf(Employee employee) {
+        Integer index = employeeIndex.get(employee);
+        return index != null ? index : -1;
+    }
+
+    // Private helper methods; callers hold this log's lock
+    private void enrollIfAbsent(Employee employee, double salary, Department department, Position position,
+                                WorkSchedule schedule, boolean active) {
+        if (!employeeIndex.containsKey(employee)) {
+            enroll(employee, salary, department, position, schedule, active, now());
+        }
+    }
+
+    private void enroll(Employee employee, double salary, Department department, Position position,
+                        WorkSchedule schedule, boolean active, long time) {
+        int index = employeeIndex.size();
+        employeeIndex.put(employee, index);
+        if (index == employees.length) {
+            employees = Arrays.copyOf(employees, index * 2);
+        }
+        employees[index] = employee;
+        baseline = baseline.add(index, Double.doubleToLongBits(salary), reference(department),
+                reference(position), reference(schedule), active);
+        appendAt(TRACKED, index, 0, time);
+    }
+
+    private void append(byte kind, Employee employee, long value) {
+        appendAt(kind, employeeIndex.get(employee), value, now());
+    }
+
+    private void appendAt(byte kind, int subject, long value, long time) {
+        if (size == times.length) {
+            int capacity = size * 2;
+            times = Arrays.copyOf(times, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            subjects = Arrays.copyOf(subjects, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        // Records are kept in time order even if the clock steps back
+        long stamp = Math.max(time, lastTime);
+        times[size] = stamp;
+        kinds[size] = kind;
+        subjects[size] = subject;
+        values[size] = value;
+        size++;
+        lastTime = stamp;
+
+        current.apply(kind, subject, value, baseline);
+        current.position = size;
+        State last = snapshots.get(snapshots.size() - 1);
+        if (size - last.position >= Math.max(MIN_SNAPSHOT_INTERVAL, employeeIndex.size())) {
+            snapshots.add(current.copy(size));
+        }
+    }
+
+    private int reference(Object reference) {
+        Integer index = referenceIndex.get(reference);
+        if (index != null) {
+            return index;
+        }
+        int next = referenceIndex.size();
+        if (next == references.length) {
+            references = Arrays.copyOf(references, next * 2);
+        }
+        references[next] = reference;
+        referenceIndex.put(reference, next);
+        return next;
+    }
+
+    private long now() {
+        return clock.millis();
+    }
+
+    // Index of the last snapshot taken at or before the given record position
+    private int snapshotBefore(int position) {
+        int low = 0;
+        int high = snapshots.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (snapshots.get(mid).position <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    // Number of records with a time stamp at or before the given time
+    private static int upperBound(long[] times, int size, long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Per-employee state after a number of records, indexed by dense employee index.
+     */
+    private static final class State {
+        private int position;
+        private int count;
+        private long[] salaryBits;
+        private int[] departments;
+        private int[] positions;
+        private int[] schedules;
+        private final BitSet active;
+
+        State(int position, int capacity) {
+            this.position = position;
+            this.salaryBits = new long[capacity];
+            this.departments = new int[capacity];
+            this.positions = new int[capacity];
+            this.schedules = new int[capacity];
+            this.active = new BitSet(capacity);
+        }
+
+        private State(State source, int position, int capacity) {
+            this.position = position;
+            this.count = source.count;
+            this.salaryBits = Arrays.copyOf(source.salaryBits, capacity);
+            this.departments = Arrays.copyOf(source.departments, capacity);
+            this.positions = Arrays.copyOf(source.positions, capacity);
+            this.schedules = Arrays.copyOf(source.schedules, capacity);
+            this.active = (BitSet) source.active.clone();
+        }
+
+        State copy(int position) {
+            return new State(this, position, Math.max(count, 1));
+        }
+
+        void apply(byte kind, int subject, long value, Baseline baseline) {
+            switch (kind) {
+                case TRACKED:
+                    set(subject, baseline.salaryBits[subject], baseline.departments[subject],
+                            baseline.positions[subject], baseline.schedules[subject], baseline.active[subject]);
+                    count = Math.max(count, subject + 1);
+                    break;
+                case SALARY:
+                    salaryBits[subject] = value;
+                    break;
+                case DEPARTMENT:
+                    departments[subject] = (int) value;
+                    break;
+                case POSITION:
+                    positions[subject] = (int) value;
+                    break;
+                case SCHEDULE:
+                    schedules[subject] = (int) value;
+                    break;
+                case ACTIVE:
+                    active.set(subject, value != 0);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown change record kind: " + kind);
+            }
+        }
+
+        private void set(int index, long salaryBits, int department, int position, int schedule, boolean active) {
+            if (index >= this.salaryBits.length) {
+                int capacity = Math.max(index + 1, this.salaryBits.length * 2);
+                this.salaryBits = Arrays.copyOf(this.salaryBits, capacity);
+                this.departments = Arrays.copyOf(this.departments, capacity);
+                this.positions = Arrays.copyOf(this.positions, capacity);
+                this.schedules = Arrays.copyOf(this.schedules, capacity);
+            }
+            this.salaryBits[index] = salaryBits;
+            this.departments[index] = department;
+            this.positions[index] = position;
+            this.schedules[index] = schedule;
+            this.active.set(index, active);
+        }
+    }
+
+    /**
+     * State each employee entered the log with. Entries are written once, before the record
+     * that refers to them, and the arrays are replaced by larger copies when full.
+     */
+    private static final class Baseline {
+        private final long[] salaryBits;
+        private final int[] departments;
+        private final int[] positions;
+        private final int[] schedules;
+        private final boolean[] active;
+
+        Baseline(int capacity) {
+            this.salaryBits = new long[capacity];
+            this.departments = new int[capacity];
+            this.positions = new int[capacity];
+            this.schedules = new int[capacity];
+            this.active = new boolean[capacity];
+        }
+
+        private Baseline(Baseline source, int capacity) {
+            this.salaryBits = Arrays.copyOf(source.salaryBits, capacity);
+            this.departments = Arrays.copyOf(source.departments, capacity);
+            this.positions = Arrays.copyOf(source.positions, capacity);
+            this.schedules = Arrays.copyOf(source.schedules, capacity);
+            this.active = Arrays.copyOf(source.active, capacity);
+        }
+
+        // Returns this baseline, or a larger copy if the index does not fit, with the entry set
+        Baseline add(int index, long salaryBits, int department, int position, int schedule, boolean active) {
+            Baseline target = index < this.salaryBits.length ? this : new Baseline(this, this.salaryBits.length * 2);
+            target.salaryBits[index] = salaryBits;
+            target.departments[index] = department;
+            target.positions[index] = position;
+            target.schedules[index] = schedule;
+            target.active[index] = active;
+            return target;
+        }
+    }
+
+    /**
+     * Read-only view of all employees known to the log at a point in time.
+     */
+    public static final class View {
+        private final EmployeeChangeLog log;
+        private final State state;
+        private final Instant time;
+        private final Employee[] employees;
+        private final Object[] references;
+
+        private View(EmployeeChangeLog log, State state, Instant time, Employee[] employees, Object[] references) {
+            this.log = log;
+            this.state = state;
+            this.time = time;
+            this.employees = employees;
+            this.references = references;
+        }
+
+        // Getters
+        public Instant getTime() { return time; }
+        public int getEmployeeCount() { return state.count; }
+
+        public boolean contains(Employee employee) {
+            return find(employee) >= 0;
+        }
+
+        public double getSalary(Employee employee) {
+            return Double.longBitsToDouble(state.salaryBits[indexOf(employee)]);
+        }
+
+        public Department getDepartment(Employee employee) {
+            return (Department) references[state.departments[indexOf(employee)]];
+        }
+
+        public Position getPosition(Employee employee) {
+            return (Position) references[state.positions[indexOf(employee)]];
+        }
+
+        public WorkSchedule getWorkSchedule(Employee employee) {
+            return (WorkSchedule) references[state.schedules[indexOf(employee)]];
+        }
+
+        public boolean isActive(Employee employee) {
+            return state.active.get(indexOf(employee));
+        }
+
+        public List<Employee> getEmployees() {
+            return Collections.unmodifiableList(Arrays.asList(employees).subList(0, state.count));
+        }
+
+        /**
+         * Employees that belonged to the department at this point in time, active or not.
+         */
+        public List<Employee> getEmployees(Department department) {
+            List<Employee> result = new ArrayList<>();
+            for (int i = 0; i < state.count; i++) {
+                if (references[state.departments[i]] == department) {
+                    result.add(employees[i]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Sum of the salaries of the department's active employees at this point in time.
+         */
+        public double getTotalSalary(Department department) {
+            long cents = 0;
+            for (int i = state.active.nextSetBit(0); i >= 0 && i < state.count; i = state.active.nextSetBit(i + 1)) {
+                if (references[state.departments[i]] == department) {
+                    cents += Math.round(Double.longBitsToDouble(state.salaryBits[i]) * 100);
+                }
+            }
+            return cents / 100.0;
+        }
+
+        // Private helper methods
+        // Indexes are assigned once and never reused, so the log's current index is valid for any view
+        private int find(Employee employee) {
+            int index = log.indexOf(employee);
+            return index < state.count ? index : -1;
+        }
+
+        private int indexOf(Employee employee) {
+            Objects.requireNonNull(employee, "Employee cannot be null");
+            int index = find(employee);
+            if (index < 0) {
+                throw new IllegalArgumentException("Employee " + employee.getEmployeeId() + " is not known at " + time);
+            }
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            return "EmployeeChangeLog.View{" +
+                    "time=" + time +
+                    ", employees=" + state.count +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package company.empoloyees;
+
+import company.snapshot.SnapshotFormat;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Snapshot records of employees. The concrete class is stored as a type tag, and reading goes
+ * through the trusted constructors so email, phone and salary are not validated again.
+ */
+public final class EmployeeCodec {
+    private static final byte EMPLOYEE = 0;
+    private static final byte MANAGER = 1;
+    private static final byte HR_SPECIALIST = 2;
+    private static final byte ADMIN = 3;
+
+    private EmployeeCodec() {
+    }
+
+    public static void write(DataOutput out, Employee employee, ToIntFunction<Department> departmentIds,
+                             ToIntFunction<Position> positionIds,
+                             ToIntFunction<WorkSchedule> scheduleIds) throws IOException {
+        out.writeByte(typeOf(employee));
+        SnapshotFormat.writeString(out, employee.getEmployeeId());
+        SnapshotFormat.writeString(out, employee.getFirstName());
+        SnapshotFormat.writeString(out, employee.getLastName());
+        SnapshotFormat.writeString(out, employee.getEmail());
+        SnapshotFormat.writeString(out, employee.getPhoneNumber());
+        out.writeInt(departmentIds.applyAsInt(employee.getDepartment()));
+        out.writeInt(positionIds.applyAsInt(employee.getPosition()));
+        SnapshotFormat.writeDate(out, employee.getHireDate());
+        out.writeDouble(employee.getSalary());
+        out.writeInt(scheduleIds.applyAsInt(employee.getWorkSchedule()));
+        out.writeBoolean(employee.isActive());
+
+        if (employee instanceof Manager) {
+            Department managed = ((Manager) employee).getManagedDepartment();
+            out.writeInt(managed != null ? departmentIds.applyAsInt(managed) : SnapshotFormat.NULL_REF);
+        } else if (employee instanceof HRSpecialist) {
+            HRSpecialist specialist = (HRSpecialist) employee;
+            out.writeLong(specialist.getPermissionMask());
+            List<Department> managed = specialist.getManagedDepartments();
+            out.writeInt(managed.size());
+            for (Department department : managed) {
+                out.writeInt(departmentIds.applyAsInt(department));
+            }
+        } else if (employee instanceof Admin) {
+            Admin admin = (Admin) employee;
+            SnapshotFormat.writeString(out, admin.getAdminId());
+            out.writeLong(admin.getPermissionMask());
+            SnapshotFormat.writeString(out, admin.getLastLoginDate());
+        }
+    }
+
+    public static Employee read(DataInput in, Department[] departments, Position[] positions,
+                                WorkSchedule[] schedules) throws IOException {
+        byte type = in.readByte();
+        String employeeId = SnapshotFormat.readString(in);
+        String firstName = SnapshotFormat.readString(in);
+        String lastName = SnapshotFormat.readString(in);
+        String email = SnapshotFormat.readString(in);
+        String phoneNumber = SnapshotFormat.readString(in);
+        Department department = SnapshotFormat.resolve(departments, in.readInt());
+        Position position = SnapshotFormat.resolve(positions, in.readInt());
+        LocalDate hireDate = SnapshotFormat.readDate(in);
+        double salary = in.readDouble();
+        WorkSchedule schedule = SnapshotFormat.resolve(schedules, in.readInt());
+        boolean isActive = in.readBoolean();
+
+        switch (type) {
+            case EMPLOYEE:
+                return new Employee(employeeId, firstName, lastName, email, phoneNumber,
+                        department, position, hireDate, salary, schedule, isActive);
+            case MANAGER:
+                return new Manager(employeeId, firstName, lastName, email, phoneNumber,
+                        department, position, hireDate, salary, schedule, isActive,
+                        SnapshotFormat.resolve(departments, in.readInt()));
+            case HR_SPECIALIST: {
+                HRSpecialist specialist = new HRSpecialist(employeeId, firstName, lastName, email, phoneNumber,
+                        department, position, hireDate, salary, schedule, isActive);
+                specialist.restorePermissionMask(in.readLong());
+                int managed = in.readInt();
+                for (int i = 0; i < managed; i++) {
+                    specialist.addManagedDepartment(SnapshotFormat.resolve(departments, in.readInt()));
+                }
+                return specialist;
+            }
+            case ADMIN:
+                return new Admin(employeeId, firstName, lastName, email, phoneNumber,
+                        department, position, hireDate, salary, schedule, isActive,
+                        SnapshotFormat.readString(in), in.readLong(), SnapshotFormat.readString(in));
+            default:
+                throw new IOException("Unknown employee type " + type + " for " + employeeId);
+        }
+    }
+
+    // Private helper methods
+    private static byte typeOf(Employee employee) {
+        if (employee instanceof Manager) {
+            return MANAGER;
+        }
+        if (employee instanceof HRSpecialist) {
+            return HR_SPECIALIST;
+        }
+        if (employee instanceof Admin) {
+            return ADMIN;
+        }
+        if (employee.getClass() != Employee.class) {
+            throw new IllegalArgumentException("Unsupported employee type: " + employee.getClass().getName());
+        }
+        return EMPLOYEE;
+    }
+}
@@ -0,0 +1,176 @@
+package company.empoloyees;
+
+import company.structure.Department;
+import company.structure.Position;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent registry of employees with a primary index on employee ID and secondary
+ * indexes on email, department, position and active flag.
+ * <p>
+ * The directory listens to {@link EmployeeEvents}, so the secondary indexes follow
+ * {@code updateEmail}, {@code transferToDepartment}, {@code updatePosition},
+ * {@code deactivate} and {@code reactivate} without callers having to re-register.
+ * All lookups are hash lookups and return unmodifiable sets. Department, position and active
+ * lookups return live views that follow later changes; their sets stay in place once created,
+ * even when empty. Email lookups return a snapshot, so probing unknown addresses leaves no trace.
+ */
+public final class EmployeeDirectory implements EmployeeListener, AutoCloseable {
+    private final Map<String, Employee> byId;
+    private final Index<String> byEmail;
+    private final Index<Department> byDepartment;
+    private final Index<Position> byPosition;
+    private final Index<Boolean> byActive;
+
+    private EmployeeDirectory() {
+        this.byId = new ConcurrentHashMap<>();
+        this.byEmail = new Index<>(false);
+        this.byDepartment = new Index<>(true);
+        this.byPosition = new Index<>(true);
+        this.byActive = new Index<>(true);
+    }
+
+    /**
+     * Creates an empty directory that is already subscribed to employee events.
+     */
+    public static EmployeeDirectory create() {
+        EmployeeDirectory directory = new EmployeeDirectory();
+        EmployeeEvents.register(directory);
+        return directory;
+    }
+
+    /**
+     * Adds an employee to the directory.
+     *
+     * @throws IllegalStateException if another employee with the same ID is already registered
+     */
+    public void register(Employee employee) {
+        Objects.requireNonNull(employee, "Employee cannot be null");
+        synchronized (employee) {
+            Employee existing = byId.putIfAbsent(employee.getEmployeeId(), employee);
+            if (existing == employee) {
+                return;
+            }
+            if (existing != null) {
+                throw new IllegalStateException("Employee ID already registered: " + employee.getEmployeeId());
+            }
+            byEmail.add(employee.getEmail(), employee);
+            byDepartment.add(employee.getDepartment(), employee);
+            byPosition.add(employee.getPosition(), employee);
+            byActive.add(employee.isActive(), employee);
+        }
+    }
+
+    public void unregister(Employee employee) {
+        Objects.requireNonNull(employee, "Employee cannot be null");
+        synchronized (employee) {
+            if (byId.remove(employee.getEmployeeId(), employee)) {
+                byEmail.remove(employee.getEmail(), employee);
+                byDepartment.remove(employee.getDepartment(), employee);
+                byPosition.remove(employee.getPosition(), employee);
+                byActive.remove(employee.isActive(), employee);
+            }
+        }
+    }
+
+    // Lookups
+    public Employee getById(String employeeId) { return byId.get(employeeId); }
+    public Set<Employee> getByEmail(String email) { return byEmail.get(email); }
+    public Set<Employee> getByDepartment(Department department) { return byDepartment.get(department); }
+    public Set<Employee> getByPosition(Position position) { return byPosition.get(position); }
+    public Set<Employee> getActive() { return byActive.get(Boolean.TRUE); }
+    public Set<Employee> getInactive() { return byActive.get(Boolean.FALSE); }
+    public int size() { return byId.size(); }
+
+    // Index maintenance driven by employee events
+    @Override
+    public void onEmailChanged(Employee employee, String oldEmail) {
+        if (isRegistered(employee)) {
+            byEmail.move(oldEmail, employee.getEmail(), employee);
+        }
+    }
+
+    @Override
+    public void onDepartmentChanged(Employee employee, Department oldDepartment) {
+        if (isRegistered(employee)) {
+            byDepartment.move(oldDepartment, employee.getDepartment(), employee);
+        }
+    }
+
+    @Override
+    public void onPositionChanged(Employee employee, Position oldPosition) {
+        if (isRegistered(employee)) {
+            byPosition.move(oldPosition, employee.getPosition(), employee);
+        }
+    }
+
+    @Override
+    public void onActiveChanged(Employee employee) {
+        if (isRegistered(employee)) {
+            byActive.move(!employee.isActive(), employee.isActive(), employee);
+        }
+    }
+
+    /**
+     * Stops following employee events. The directory keeps its current contents.
+     */
+    @Override
+    public void close() {
+        EmployeeEvents.unregister(this);
+    }
+
+    private boolean isRegistered(Employee employee) {
+        return byId.get(employee.getEmployeeId()) == employee;
+    }
+
+    /**
+     * Multi-valued hash index. A live index hands out views and keeps a key's set once created;
+     * otherwise lookups return copies and keys are dropped atomically together with their last value.
+     */
+    private static final class Index<K> {
+        private final Map<K, Set<Employee>> entries = new ConcurrentHashMap<>();
+        private final boolean live;
+
+        Index(boolean live) {
+            this.live = live;
+        }
+
+        Set<Employee> get(K key) {
+            if (key == null) {
+                return Collections.emptySet();
+            }
+            if (live) {
+                return Collections.unmodifiableSet(entries.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()));
+            }
+            Set<Employee> employees = entries.get(key);
+            return employees != null ? Set.copyOf(employees) : Collections.emptySet();
+        }
+
+        void add(K key, Employee employee) {
+            entries.compute(key, (k, employees) -> {
+                Set<Employee> result = employees != null ? employees : ConcurrentHashMap.newKeySet();
+                result.add(employee);
+                return result;
+            });
+        }
+
+        void remove(K key, Employee employee) {
+            entries.computeIfPresent(key, (k, employees) -> {
+                employees.remove(employee);
+                return employees.isEmpty() && !live ? null : employees;
+            });
+        }
+
+        void move(K oldKey, K newKey, Employee employee) {
+            if (!Objects.equals(oldKey, newKey)) {
+                remove(oldKey, employee);
+                add(newKey, employee);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package company.empoloyees;
+
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide registry of {@link EmployeeListener}s that {@link Employee} reports its changes to.
+ */
+public final class EmployeeEvents {
+    private static final List<EmployeeListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private EmployeeEvents() {
+    }
+
+    public static void register(EmployeeListener listener) {
+        LISTENERS.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    public static void unregister(EmployeeListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    // Package-private dispatch used by Employee
+    static void fireEmailChanged(Employee employee, String oldEmail) {
+        for (EmployeeListener listener : LISTENERS) {
+            listener.onEmailChanged(employee, oldEmail);
+        }
+    }
+
+    static void fireDepartmentChanged(Employee employee, Department oldDepartment) {
+        for (EmployeeListener listener : LISTENERS) {
+            listener.onDepartmentChanged(employee, oldDepartment);
+        }
+    }
+
+    static void firePositionChanged(Employee employee, Position oldPosition) {
+        for (EmployeeListener listener : LISTENERS) {
+            listener.onPositionChanged(employee, oldPosition);
+        }
+    }
+
+    static void fireActiveChanged(Employee employee) {
+        for (EmployeeListener listener : LISTENERS) {
+            listener.onActiveChanged(employee);
+        }
+    }
+
+    static void fireSalaryChanged(Employee employee, double oldSalary) {
+        for (EmployeeListener listener : LISTENERS) {
+            listener.onSalaryChanged(employee, oldSalary);
+        }
+    }
+
+    static void fireScheduleChanged(Employee employee, WorkSchedule oldSchedule) {
+        for (EmployeeListener listener : LISTENERS) {
+            listener.onScheduleChanged(employee, oldSchedule);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package company.empoloyees;
+
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk import of employees from delimited text (CSV or TSV).
+ * <p>
+ * Each line holds the columns
+ * {@code type, employeeId, firstName, lastName, email, phoneNumber, departmentId,
+ * positionId, hireDate, salary, scheduleId, active[, managedDepartmentId]}, where
+ * {@code type} is EMPLOYEE, MANAGER or HR_SPECIALIST. A leading header line (first
+ * column "type") and blank lines are skipped. CSV fields may be double-quoted.
+ * <p>
+ * Lines are validated in chunks on the common fork/join pool with the same rules as the
+ * {@link Employee} constructor. Bad rows are reported in the {@link ImportResult} instead
+ * of aborting the import; the other rows are still created.
+ */
+public final class EmployeeImporter {
+    static final int CHUNK_SIZE = 4096;
+    private static final int REQUIRED_COLUMNS = 12;
+    private static final int MAX_COLUMNS = 13;
+
+    private final char delimiter;
+    private final Map<String, Department> departments;
+    private final Map<String, Position> positions;
+    private final Map<String, WorkSchedule> schedules;
+
+    /**
+     * @param delimiter    field separator, e.g. ',' or '\t'
+     * @param departments  departments by ID
+     * @param positions    positions by ID
+     * @param schedules    work schedules by ID
+     */
+    public EmployeeImporter(char delimiter, Map<String, Department> departments,
+                            Map<String, Position> positions, Map<String, WorkSchedule> schedules) {
+        if (delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Invalid delimiter");
+        }
+        this.delimiter = delimiter;
+        this.departments = Objects.requireNonNull(departments, "Departments cannot be null");
+        this.positions = Objects.requireNonNull(positions, "Positions cannot be null");
+        this.schedules = Objects.requireNonNull(schedules, "Schedules cannot be null");
+    }
+
+    public static EmployeeImporter csv(Map<String, Department> departments,
+                                       Map<String, Position> positions, Map<String, WorkSchedule> schedules) {
+        return new EmployeeImporter(',', departments, positions, schedules);
+    }
+
+    public static EmployeeImporter tsv(Map<String, Department> departments,
+                                       Map<String, Position> positions, Map<String, WorkSchedule> schedules) {
+        return new EmployeeImporter('\t', departments, positions, schedules);
+    }
+
+    public ImportResult importFile(Path file) throws IOException {
+        Objects.requireNonNull(file, "File cannot be null");
+        return importLines(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Imports the given lines; line numbers in errors are 1-based indexes into this list.
+     */
+    public ImportResult importLines(List<String> lines) {
+        Objects.requireNonNull(lines, "Lines cannot be null");
+        LocalDate today = LocalDate.now();
+        int chunks = (lines.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<Chunk> results = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> importChunk(lines, chunk * CHUNK_SIZE,
+                        Math.min(lines.size(), (chunk + 1) * CHUNK_SIZE), today))
+                .collect(Collectors.toList());
+
+        // Duplicate IDs are resolved in source order: the first occurrence wins
+        List<Employee> employees = new ArrayList<>(lines.size());
+        List<ImportError> errors = new ArrayList<>();
+        Set<String> seenIds = new HashSet<>();
+        for (Chunk chunk : results) {
+            int next = 0;
+            for (int i = 0; i < chunk.employees.size(); i++) {
+                while (next < chunk.errors.size() && chunk.errors.get(next).getLineNumber() < chunk.lineNumbers[i]) {
+                    errors.add(chunk.errors.get(next++));
+                }
+                Employee employee = chunk.employees.get(i);
+                if (seenIds.add(employee.getEmployeeId())) {
+                    employees.add(employee);
+                } else {
+                    errors.add(new ImportError(chunk.lineNumbers[i],
+                            "Duplicate employee ID: " + employee.getEmployeeId()));
+                }
+            }
+            while (next < chunk.errors.size()) {
+                errors.add(chunk.errors.get(next++));
+            }
+        }
+        return new ImportResult(employees, errors);
+    }
+
+    // Private helper methods
+    private Chunk importChunk(List<String> lines, int from, int to, LocalDate today) {
+        Chunk chunk = new Chunk(to - from);
+        String[] fields = new String[MAX_COLUMNS];
+        for (int i = from; i < to; i++) {
+            String line = lines.get(i);
+            int lineNumber = i + 1;
+            if (line == null || line.isBlank()) {
+                continue;
+            }
+            int count = split(line, fields);
+            if (count < 0) {
+                chunk.errors.add(new ImportError(lineNumber, "Unterminated quoted field"));
+                continue;
+            }
+            if (i == 0 && "type".equalsIgnoreCase(fields[0])) {
+                continue;
+            }
+            if (count < REQUIRED_COLUMNS || count > MAX_COLUMNS) {
+                chunk.errors.add(new ImportError(lineNumber, "Expected " + REQUIRED_COLUMNS + " or "
+                        + MAX_COLUMNS + " columns but found " + count));
+                continue;
+            }
+            Object row = parseRow(fields, count, today);
+            if (row instanceof Employee) {
+                chunk.add((Employee) row, lineNumber);
+            } else {
+                chunk.errors.add(new ImportError(lineNumber, (String) row));
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Validates one row and creates its employee.
+     *
+     * @return the new employee, or the error message for the first invalid field
+     */
+    private Object parseRow(String[] fields, int count, LocalDate today) {
+        String type = fields[0];
+        String employeeId = fields[1];
+        if (employeeId.isEmpty()) {
+            return "Employee ID cannot be null or empty";
+        }
+        String firstName = fields[2];
+        if (firstName.isEmpty()) {
+            return "First name cannot be null or empty";
+        }
+        String lastName = fields[3];
+        if (lastName.isEmpty()) {
+            return "Last name cannot be null or empty";
+        }
+        String email = fields[4];
+        if (email.isEmpty()) {
+            return "Email cannot be null or empty";
+        }
+        if (!EmployeeValidation.isValidEmail(email)) {
+            return "Invalid email format";
+        }
+        String phoneNumber = fields[5];
+        if (phoneNumber.isEmpty()) {
+            return "Phone number cannot be null or empty";
+        }
+        if (!EmployeeValidation.isValidPhoneNumber(phoneNumber)) {
+            return "Invalid phone number format";
+        }
+        Department department = departments.get(fields[6]);
+        if (department == null) {
+            return "Unknown department: " + fields[6];
+        }
+        Position position = positions.get(fields[7]);
+        if (position == null) {
+            return "Unknown position: " + fields[7];
+        }
+        LocalDate hireDate = EmployeeValidation.parseIsoDate(fields[8]);
+        if (hireDate == null) {
+            return "Invalid hire date format. Use ISO date format (YYYY-MM-DD)";
+        }
+        if (hireDate.isAfter(today)) {
+            return "Hire date cannot be in the future";
+        }
+        double salary;
+        try {
+            salary = Double.parseDouble(fields[9]);
+        } catch (NumberFormatException e) {
+            return "Invalid salary: " + fields[9];
+        }
+        if (salary < 0) {
+            return "Salary cannot be negative";
+        }
+        WorkSchedule workSchedule = schedules.get(fields[10]);
+        if (workSchedule == null) {
+            return "Unknown work schedule: " + fields[10];
+        }
+        String active = fields[11];
+        boolean isActive;
+        if (active.isEmpty() || active.equalsIgnoreCase("true")) {
+            isActive = true;
+        } else if (active.equalsIgnoreCase("false")) {
+            isActive = false;
+        } else {
+            return "Invalid active flag: " + active;
+        }
+
+        if (type.equalsIgnoreCase("EMPLOYEE")) {
+            return new Employee(employeeId, firstName, lastName, email, phoneNumber,
+                    department, position, hireDate, salary, workSchedule, isActive);
+        }
+        if (type.equalsIgnoreCase("MANAGER")) {
+            Department managedDepartment = null;
+            if (count > REQUIRED_COLUMNS && !fields[REQUIRED_COLUMNS].isEmpty()) {
+                managedDepartment = departments.get(fields[REQUIRED_COLUMNS]);
+                if (managedDepartment == null) {
+                    return "Unknown managed department: " + fields[REQUIRED_COLUMNS];
+                }
+            }
+            return new Manager(employeeId, firstName, lastName, email, phoneNumber,
+                    department, position, hireDate, salary, workSchedule, isActive, managedDepartment);
+        }
+        if (type.equalsIgnoreCase("HR_SPECIALIST")) {
+            return new HRSpecialist(employeeId, firstName, lastName, email, phoneNumber,
+                    department, position, hireDate, salary, workSchedule, isActive);
+        }
+        return "Unknown employee type: " + type;
+    }
+
+    /**
+     * Splits a line into trimmed fields, reusing the given array.
+     *
+     * @return the number of fields, which may exceed the array length, or -1 for an unterminated quote
+     */
+    private int split(String line, String[] fields) {
+        int count = 0;
+        int length = line.length();
+        int pos = 0;
+        while (true) {
+            while (pos < length && line.charAt(pos) == ' ' && delimiter != ' ') {
+                pos++;
+            }
+            String field;
+            if (pos < length && line.charAt(pos) == '"') {
+                StringBuilder quoted = new StringBuilder();
+                pos++;
+                while (true) {
+                    if (pos >= length) {
+                        return -1;
+                    }
+                    char c = line.charAt(pos++);
+                    if (c == '"') {
+                        if (pos < length && line.charAt(pos) == '"') {
+                            quoted.append('"');
+                            pos++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+                field = quoted.toString().trim();
+                while (pos < length && line.charAt(pos) != delimiter) {
+                    pos++;
+                }
+            } else {
+                int end = line.indexOf(delimiter, pos);
+                if (end < 0) {
+                    end = length;
+                }
+                field = line.substring(pos, end).trim();
+                pos = end;
+            }
+            if (count < fields.length) {
+                fields[count] = field;
+            }
+            count++;
+            if (pos >= length) {
+                return count;
+            }
+            pos++; // skip the delimiter
+        }
+    }
+
+    private static final class Chunk {
+        private final List<Employee> employees;
+        private final List<ImportError> errors;
+        private final int[] lineNumbers;
+
+        Chunk(int capacity) {
+            this.employees = new ArrayList<>(capacity);
+            this.errors = new ArrayList<>();
+            this.lineNumbers = new int[capacity];
+        }
+
+        void add(Employee employee, int lineNumber) {
+            lineNumbers[employees.size()] = lineNumber;
+            employees.add(employee);
+        }
+    }
+}
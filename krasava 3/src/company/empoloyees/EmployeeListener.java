@@ -0,0 +1,29 @@
+package company.empoloyees;
+
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.WorkSchedule;
+
+/**
+ * Receives employee mutation events. Callbacks run synchronously while the employee's
+ * lock is held, after the change has been applied, so events for one employee arrive in order.
+ */
+public interface EmployeeListener {
+    default void onEmailChanged(Employee employee, String oldEmail) {
+    }
+
+    default void onDepartmentChanged(Employee employee, Department oldDepartment) {
+    }
+
+    default void onPositionChanged(Employee employee, Position oldPosition) {
+    }
+
+    default void onActiveChanged(Employee employee) {
+    }
+
+    default void onSalaryChanged(Employee employee, double oldSalary) {
+    }
+
+    default void onScheduleChanged(Employee employee, WorkSchedule oldSchedule) {
+    }
+}
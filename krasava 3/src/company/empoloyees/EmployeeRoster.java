@@ -0,0 +1,142 @@
+package company.empoloyees;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Insertion-ordered set of employees keyed by employee ID.
+ * Add, remove and contains are O(1): removed slots are left as holes and squeezed out
+ * by {@code add} and {@code remove} once they make up half the array, so the order in which
+ * employees joined is kept without shifting the array on every removal. Reads never move
+ * slots. The class is not thread-safe; owners guard it with their own lock. The list returned
+ * by {@link #asList()} is a snapshot, built once and reused until the next add or remove.
+ * <p>
+ * The roster also keeps a running total of its members' salaries. Members know the rosters
+ * they are on and apply their salary changes to them directly, so the total needs no lock.
+ */
+public final class EmployeeRoster {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Map<String, Integer> slotById;
+    // Members in insertion order, or null once a change has made it stale
+    private List<Employee> snapshot;
+    private Employee[] slots;
+    private int end;
+    private int size;
+    private final AtomicLong totalSalaryCents;
+
+    public EmployeeRoster() {
+        this.slotById = new HashMap<>();
+        this.slots = new Employee[INITIAL_CAPACITY];
+        this.snapshot = Collections.emptyList();
+        this.totalSalaryCents = new AtomicLong();
+    }
+
+    public boolean add(Employee employee) {
+        Objects.requireNonNull(employee, "Employee cannot be null");
+        if (slotById.containsKey(employee.getEmployeeId())) {
+            return false;
+        }
+        if (end == slots.length) {
+            makeRoom();
+        }
+        slots[end] = employee;
+        slotById.put(employee.getEmployeeId(), end);
+        end++;
+        size++;
+        snapshot = null;
+        employee.joinRoster(this);
+        return true;
+    }
+
+    public boolean remove(Employee employee) {
+        if (employee == null) {
+            return false;
+        }
+        Integer slot = slotById.remove(employee.getEmployeeId());
+        if (slot == null) {
+            return false;
+        }
+        // The stored instance is the one that joined, even if the argument is an equal copy
+        slots[slot].leaveRoster(this);
+        slots[slot] = null;
+        size--;
+        snapshot = null;
+        while (end > 0 && slots[end - 1] == null) {
+            end--;
+        }
+        if (end > INITIAL_CAPACITY && size <= end / 2) {
+            compact();
+        }
+        return true;
+    }
+
+    public boolean contains(Employee employee) {
+        return employee != null && slotById.containsKey(employee.getEmployeeId());
+    }
+
+    public Employee get(String employeeId) {
+        Integer slot = slotById.get(employeeId);
+        return slot != null ? slots[slot] : null;
+    }
+
+    public int size() { return size; }
+
+    public double getTotalSalary() { return totalSalaryCents.get() / 100.0; }
+
+    /**
+     * Returns the members in insertion order as an unmodifiable snapshot that later changes do not affect.
+     */
+    public List<Employee> asList() {
+        if (snapshot == null) {
+            List<Employee> members = new ArrayList<>(size);
+            for (int slot = 0; slot < end; slot++) {
+                if (slots[slot] != null) {
+                    members.add(slots[slot]);
+                }
+            }
+            snapshot = Collections.unmodifiableList(members);
+        }
+        return snapshot;
+    }
+
+    // Called by members while they hold their roster set's lock
+    void salaryChanged(double oldSalary, double newSalary) {
+        totalSalaryCents.addAndGet(toCents(newSalary) - toCents(oldSalary));
+    }
+
+    // Private helper methods
+    private static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    private void makeRoom() {
+        if (size <= end / 2) {
+            compact();
+        } else {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int slot = 0; slot < end; slot++) {
+            Employee employee = slots[slot];
+            if (employee != null) {
+                if (slot != target) {
+                    slots[target] = employee;
+                    slotById.put(employee.getEmployeeId(), target);
+                }
+                target++;
+            }
+        }
+        Arrays.fill(slots, target, end, null);
+        end = target;
+    }
+}
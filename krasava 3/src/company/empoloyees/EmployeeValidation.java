@@ -0,0 +1,112 @@
+package company.empoloyees;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Hand-written equivalents of the employee field rules, used on every constructor call
+ * and by the bulk importer. They accept exactly what the original patterns did:
+ * <ul>
+ *   <li>email: {@code ^[A-Za-z0-9+_.-]+@(.+)$}</li>
+ *   <li>phone: {@code ^\+?[1-9]\d{1,14}$}</li>
+ *   <li>hire date: {@link DateTimeFormatter#ISO_DATE}</li>
+ * </ul>
+ */
+final class EmployeeValidation {
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private EmployeeValidation() {
+    }
+
+    static boolean isValidEmail(String email) {
+        int length = email.length();
+        int at = 0;
+        while (at < length && isLocalPartChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at == length || email.charAt(at) != '@' || at == length - 1) {
+            return false;
+        }
+        // The domain is '.+': any characters except line terminators
+        for (int i = at + 1; i < length; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isValidPhoneNumber(String phone) {
+        int length = phone.length();
+        int start = length > 0 && phone.charAt(0) == '+' ? 1 : 0;
+        int digits = length - start;
+        if (digits < 2 || digits > 15) {
+            return false;
+        }
+        char first = phone.charAt(start);
+        if (first < '1' || first > '9') {
+            return false;
+        }
+        for (int i = start + 1; i < length; i++) {
+            char c = phone.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a hire date the way {@code LocalDate.parse(value, ISO_DATE)} does. Plain
+     * {@code YYYY-MM-DD} values take a fast path; anything else (offsets, expanded years)
+     * goes through the formatter.
+     *
+     * @return the date, or null if the value is not a valid ISO date
+     */
+    static LocalDate parseIsoDate(String value) {
+        if (value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-') {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 7);
+            int day = digits(value, 8, 10);
+            if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+                return null;
+            }
+            return LocalDate.of(year, month, day);
+        }
+        try {
+            return LocalDate.parse(value, DateTimeFormatter.ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // Private helper methods
+    private static boolean isLocalPartChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2 && (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0))) {
+            return 29;
+        }
+        return DAYS_IN_MONTH[month - 1];
+    }
+}
@@ -4,13 +4,23 @@ import company.structure.Department;
 import company.structure.Position;
 import company.structure.WorkSchedule;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 public class HRSpecialist extends Employee {
-    private final List<String> accessPermissions;
+    private static final long DEFAULT_PERMISSIONS = Permission.maskOf(
+            Permission.VIEW_EMPLOYEE_PROFILES,
+            Permission.CREATE_EMPLOYEE_PROFILES,
+            Permission.UPDATE_EMPLOYEE_INFO,
+            Permission.VIEW_DEPARTMENTS);
+
+    private long permissionMask;
+    // Bit i is set when the department with index i is managed
+    private long[] departmentRights;
     private final List<Department> managedDepartments;
 
     public HRSpecialist(String employeeId, String firstName, String lastName,
@@ -19,31 +29,67 @@ public class HRSpecialist extends Employee {
                        WorkSchedule workSchedule) {
         super(employeeId, firstName, lastName, email, phoneNumber,
               department, position, hireDate, salary, workSchedule, true);
-        this.accessPermissions = new ArrayList<>();
+        this.permissionMask = DEFAULT_PERMISSIONS;
+        this.departmentRights = new long[1];
+        this.managedDepartments = new ArrayList<>();
+    }
+
+    // Trusted constructor for pre-validated values, see Employee
+    HRSpecialist(String employeeId, String firstName, String lastName,
+                 String email, String phoneNumber, Department department,
+                 Position position, LocalDate hireDate, double salary,
+                 WorkSchedule workSchedule, boolean isActive) {
+        super(employeeId, firstName, lastName, email, phoneNumber,
+              department, position, hireDate, salary, workSchedule, isActive);
+        this.permissionMask = DEFAULT_PERMISSIONS;
+        this.departmentRights = new long[1];
         this.managedDepartments = new ArrayList<>();
-        addDefaultPermissions();
     }
 
     // Package-private methods
     void addManagedDepartment(Department department) {
         Objects.requireNonNull(department, "Department cannot be null");
-        if (!managedDepartments.contains(department)) {
+        if (!canManageDepartment(department)) {
+            int index = department.getIndex();
+            int word = index >>> 6;
+            if (word >= departmentRights.length) {
+                departmentRights = Arrays.copyOf(departmentRights, Math.max(word + 1, departmentRights.length * 2));
+            }
+            departmentRights[word] |= 1L << index;
             managedDepartments.add(department);
         }
     }
 
     void removeManagedDepartment(Department department) {
-        managedDepartments.remove(department);
+        if (canManageDepartment(department)) {
+            departmentRights[department.getIndex() >>> 6] &= ~(1L << department.getIndex());
+            managedDepartments.remove(department);
+        }
+    }
+
+    void restorePermissionMask(long mask) {
+        permissionMask = mask;
     }
 
     void grantPermission(String permission) {
-        if (permission != null && !permission.trim().isEmpty() && !accessPermissions.contains(permission)) {
-            accessPermissions.add(permission);
+        if (permission != null && !permission.trim().isEmpty()) {
+            grantPermission(requirePermission(permission));
         }
     }
 
+    void grantPermission(Permission permission) {
+        permissionMask |= Objects.requireNonNull(permission, "Permission cannot be null").mask();
+    }
+
     void revokePermission(String permission) {
-        accessPermissions.remove(permission);
+        Permission known = Permission.fromName(permission);
+        if (known != null) {
+            revokePermission(known);
+        }
+    }
+
+    void revokePermission(Permission permission) {
+        permissionMask &= ~Objects.requireNonNull(permission, "Permission cannot be null").mask();
     }
 
     // Public methods
@@ -52,15 +98,43 @@ public class HRSpecialist extends Employee {
     }
 
     public List<String> getAccessPermissions() {
-        return Collections.unmodifiableList(accessPermissions);
+        List<String> names = new ArrayList<>(Long.bitCount(permissionMask));
+        for (Permission permission : Permission.values()) {
+            if ((permissionMask & permission.mask()) != 0) {
+                names.add(permission.name());
+            }
+        }
+        return Collections.unmodifiableList(names);
     }
 
+    public long getPermissionMask() { return permissionMask; }
+
+    /**
+     * Department indexes are per department ID, so any object with a managed department's ID matches.
+     */
     public boolean canManageDepartment(Department department) {
-        return managedDepartments.contains(department);
+        if (department == null) {
+            return false;
+        }
+        int index = department.getIndex();
+        int word = index >>> 6;
+        return word < departmentRights.length && (departmentRights[word] & (1L << index)) != 0;
     }
 
     public boolean hasPermission(String permission) {
-        return accessPermissions.contains(permission);
+        Permission known = Permission.fromName(permission);
+        return known != null && hasPermission(known);
+    }
+
+    public boolean hasPermission(Permission permission) {
+        return (permissionMask & permission.mask()) != 0;
+    }
+
+    /**
+     * Checks several permissions at once; {@code mask} is usually built with {@link Permission#maskOf}.
+     */
+    public boolean hasAllPermissions(long mask) {
+        return (permissionMask & mask) == mask;
     }
 
     public void createEmployeeProfile(String employeeId, String firstName, 
@@ -78,11 +152,12 @@ public class HRSpecialist extends Employee {
     }
 
     // Private helper methods
-    private void addDefaultPermissions() {
-        accessPermissions.add("VIEW_EMPLOYEE_PROFILES");
-        accessPermissions.add("CREATE_EMPLOYEE_PROFILES");
-        accessPermissions.add("UPDATE_EMPLOYEE_INFO");
-        accessPermissions.add("VIEW_DEPARTMENTS");
+    private static Permission requirePermission(String permission) {
+        Permission known = Permission.fromName(permission);
+        if (known == null) {
+            throw new IllegalArgumentException("Unknown permission: " + permission);
+        }
+        return known;
     }
 
     private void validateEmployeeData(String employeeId, String firstName, String lastName, Department department) {
@@ -108,7 +183,7 @@ public class HRSpecialist extends Employee {
         return "HRSpecialist{" +
                 "name='" + getFullName() + '\'' +
                 ", managedDepartments=" + managedDepartments.size() +
-                ", permissions=" + accessPermissions.size() +
+                ", permissions=" + Long.bitCount(permissionMask) +
                 '}';
     }
 }
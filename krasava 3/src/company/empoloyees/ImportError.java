@@ -0,0 +1,28 @@
+package company.empoloyees;
+
+import java.util.Objects;
+
+/**
+ * A row rejected by {@link EmployeeImporter}, with its 1-based line number in the source.
+ */
+public final class ImportError {
+    private final int lineNumber;
+    private final String message;
+
+    ImportError(int lineNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.message = Objects.requireNonNull(message, "Message cannot be null");
+    }
+
+    // Getters
+    public int getLineNumber() { return lineNumber; }
+    public String getMessage() { return message; }
+
+    @Override
+    public String toString() {
+        return "ImportError{" +
+                "line=" + lineNumber +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
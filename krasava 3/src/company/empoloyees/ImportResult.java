@@ -0,0 +1,30 @@
+package company.empoloyees;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: the employees created, in source order, and one error per rejected row.
+ */
+public final class ImportResult {
+    private final List<Employee> employees;
+    private final List<ImportError> errors;
+
+    ImportResult(List<Employee> employees, List<ImportError> errors) {
+        this.employees = Collections.unmodifiableList(employees);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    // Getters
+    public List<Employee> getEmployees() { return employees; }
+    public List<ImportError> getErrors() { return errors; }
+    public boolean hasErrors() { return !errors.isEmpty(); }
+
+    @Override
+    public String toString() {
+        return "ImportResult{" +
+                "employees=" + employees.size() +
+                ", errors=" + errors.size() +
+                '}';
+    }
+}
@@ -4,6 +4,8 @@ import company.structure.Department;
 import company.structure.Position;
 import company.structure.WorkSchedule;
 
+import java.time.LocalDate;
+
 public class Manager extends Employee {
     private Department managedDepartment;
     
@@ -17,6 +19,17 @@ public class Manager extends Employee {
         this.managedDepartment = managedDepartment;
     }
 
+    // Trusted constructor for pre-validated values, see Employee
+    Manager(String employeeId, String firstName, String lastName,
+            String email, String phoneNumber, Department department,
+            Position position, LocalDate hireDate, double salary,
+            WorkSchedule workSchedule, boolean isActive,
+            Department managedDepartment) {
+        super(employeeId, firstName, lastName, email, phoneNumber,
+              department, position, hireDate, salary, workSchedule, isActive);
+        this.managedDepartment = managedDepartment;
+    }
+
     public Department getManagedDepartment() {
         return managedDepartment;
     }
@@ -0,0 +1,54 @@
+package company.empoloyees;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Access rights that can be granted to staff. Each permission owns one bit of a
+ * {@code long} mask, so a set of permissions is checked with a single AND.
+ */
+public enum Permission {
+    VIEW_EMPLOYEE_PROFILES,
+    CREATE_EMPLOYEE_PROFILES,
+    UPDATE_EMPLOYEE_INFO,
+    VIEW_DEPARTMENTS,
+    MANAGE_DEPARTMENTS,
+    MANAGE_SALARIES,
+    VIEW_REPORTS,
+    GENERATE_REPORTS,
+    APPROVE_TIME_ENTRIES,
+    GRANT_ACCESS;
+
+    public static final long ALL;
+    private static final Map<String, Permission> BY_NAME = new HashMap<>();
+
+    static {
+        long all = 0;
+        for (Permission permission : values()) {
+            all |= permission.mask();
+            BY_NAME.put(permission.name(), permission);
+        }
+        ALL = all;
+    }
+
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    public static long maskOf(Permission... permissions) {
+        long mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * Looks a permission up by its name.
+     *
+     * @return the permission, or null if no permission has that name
+     */
+    public static Permission fromName(String name) {
+        return name != null ? BY_NAME.get(name.trim()) : null;
+    }
+}
@@ -0,0 +1,138 @@
+package company.monitoring;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Process-wide metrics of the instrumented operations.
+ * <p>
+ * Collection is switched on with {@code -Dcompany.metrics.enabled=true}. The flag is read once
+ * into a {@code static final} field, so when it is off the JIT removes the instrumentation and
+ * {@link #start()} and {@link OperationMetrics#record(long)} cost nothing.
+ * <p>
+ * Instrumented code follows one pattern:
+ * <pre>
+ * long start = Metrics.start();
+ * try {
+ *     ...
+ * } finally {
+ *     Metrics.TIME_ENTRY_APPROVE.record(start);
+ * }
+ * </pre>
+ */
+public final class Metrics {
+    public static final String ENABLED_PROPERTY = "company.metrics.enabled";
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    static final String DOMAIN = "company.monitoring";
+
+    public static final OperationMetrics TIME_ENTRY_APPROVE = new OperationMetrics("time_entry_approve");
+    public static final OperationMetrics TIME_ENTRY_APPROVE_ALL = new OperationMetrics("time_entry_approve_all");
+    public static final OperationMetrics TASK_LOG_WORK = new OperationMetrics("task_log_work");
+    public static final OperationMetrics PROJECT_UPDATE_ACTUAL_HOURS = new OperationMetrics("project_update_actual_hours");
+    public static final OperationMetrics REPORT_GENERATE = new OperationMetrics("report_generate");
+    public static final OperationMetrics REPORT_EXPORT = new OperationMetrics("report_export");
+    public static final OperationMetrics EMPLOYEE_CREATE = new OperationMetrics("employee_create");
+
+    private static final List<OperationMetrics> ALL = List.of(TIME_ENTRY_APPROVE, TIME_ENTRY_APPROVE_ALL, TASK_LOG_WORK,
+            PROJECT_UPDATE_ACTUAL_HOURS, REPORT_GENERATE, REPORT_EXPORT, EMPLOYEE_CREATE);
+
+    private Metrics() {
+    }
+
+    /**
+     * Start time to pass to {@link OperationMetrics#record(long)}; 0 when metrics are disabled.
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    public static List<OperationMetrics> getAll() {
+        return ALL;
+    }
+
+    /**
+     * Registers one MXBean per operation with the platform MBean server, named
+     * {@code company.monitoring:type=Operation,name=<operation>}. Calling it again has no effect.
+     */
+    public static synchronized void registerMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (OperationMetrics metrics : ALL) {
+            try {
+                ObjectName name = objectName(metrics);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(metrics, name);
+                }
+            } catch (InstanceAlreadyExistsException e) {
+                // Registered concurrently by another class loader's copy; nothing to do
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot register MBean for " + metrics.getName(), e);
+            }
+        }
+    }
+
+    public static synchronized void unregisterMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (OperationMetrics metrics : ALL) {
+            try {
+                ObjectName name = objectName(metrics);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot unregister MBean for " + metrics.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Renders all operations in the Prometheus text exposition format: one histogram of
+     * latencies in seconds, labelled by operation. Empty buckets below the fastest and above the
+     * slowest call are left out.
+     */
+    public static String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        out.append("# HELP company_metrics_enabled Whether operation metrics are being collected.\n");
+        out.append("# TYPE company_metrics_enabled gauge\n");
+        out.append("company_metrics_enabled ").append(ENABLED ? 1 : 0).append('\n');
+        out.append("# HELP company_operation_seconds Latency of instrumented operations.\n");
+        out.append("# TYPE company_operation_seconds histogram\n");
+        for (OperationMetrics metrics : ALL) {
+            long[] counts = metrics.getBucketCounts();
+            int first = 0;
+            while (first < counts.length - 1 && counts[first] == 0) {
+                first++;
+            }
+            int last = counts.length - 1;
+            while (last > first && counts[last] == 0) {
+                last--;
+            }
+            long cumulative = 0;
+            for (int i = first; i <= last && i < OperationMetrics.BUCKETS - 1; i++) {
+                cumulative += counts[i];
+                out.append("company_operation_seconds_bucket{operation=\"").append(metrics.getName())
+                        .append("\",le=\"").append(OperationMetrics.upperBoundNanos(i) / 1e9).append("\"} ")
+                        .append(cumulative).append('\n');
+            }
+            long count = 0;
+            for (long c : counts) {
+                count += c;
+            }
+            out.append("company_operation_seconds_bucket{operation=\"").append(metrics.getName())
+                    .append("\",le=\"+Inf\"} ").append(count).append('\n');
+            out.append("company_operation_seconds_sum{operation=\"").append(metrics.getName())
+                    .append("\"} ").append(metrics.getTotalNanos() / 1e9).append('\n');
+            out.append("company_operation_seconds_count{operation=\"").append(metrics.getName())
+                    .append("\"} ").append(count).append('\n');
+        }
+        return out.toString();
+    }
+
+    // Private helper methods
+    private static ObjectName objectName(OperationMetrics metrics) throws JMException {
+        return new ObjectName(DOMAIN + ":type=Operation,name=" + metrics.getName());
+    }
+}
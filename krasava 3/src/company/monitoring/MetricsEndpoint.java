@@ -0,0 +1,58 @@
+package company.monitoring;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Serves {@link Metrics#scrape()} at {@code GET /metrics} for Prometheus-style collectors.
+ * Requests are handled one at a time on the server's dispatcher thread.
+ */
+public final class MetricsEndpoint implements AutoCloseable {
+    public static final String PATH = "/metrics";
+
+    private final HttpServer server;
+
+    private MetricsEndpoint(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts the endpoint on the given address; use port 0 to pick a free port.
+     */
+    public static MetricsEndpoint start(InetSocketAddress address) throws IOException {
+        HttpServer server = HttpServer.create(Objects.requireNonNull(address, "Address cannot be null"), 0);
+        server.createContext(PATH, MetricsEndpoint::handle);
+        server.start();
+        return new MetricsEndpoint(server);
+    }
+
+    public InetSocketAddress getAddress() { return server.getAddress(); }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // Private helper methods
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = Metrics.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
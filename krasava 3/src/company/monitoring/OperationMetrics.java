@@ -0,0 +1,146 @@
+package company.monitoring;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call count and latency histogram of one operation.
+ * <p>
+ * Latencies go into 64 buckets by the position of their highest set bit, so bucket
+ * {@code i} holds durations below {@code 2^i} nanoseconds. Every update is a
+ * {@link LongAdder} increment, so concurrent callers do not contend on one counter.
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+    static final int BUCKETS = 64;
+
+    private final String name;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+    private final LongAdder[] buckets;
+
+    OperationMetrics(String name) {
+        this.name = name;
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0);
+        this.buckets = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the time since {@code startNanos}, as returned by {@link Metrics#start()}.
+     * Does nothing when metrics are disabled.
+     */
+    public void record(long startNanos) {
+        if (!Metrics.ENABLED) {
+            return;
+        }
+        recordNanos(System.nanoTime() - startNanos);
+    }
+
+    void recordNanos(long nanos) {
+        long duration = Math.max(nanos, 0);
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+        buckets[BUCKETS - Long.numberOfLeadingZeros(duration)].increment();
+    }
+
+    // Getters
+    @Override
+    public String getName() { return name; }
+    @Override
+    public long getCount() { return count.sum(); }
+    public long getTotalNanos() { return totalNanos.sum(); }
+    public long getMaxNanos() { return maxNanos.get(); }
+
+    @Override
+    public double getTotalMillis() {
+        return totalNanos.sum() / 1e6;
+    }
+
+    @Override
+    public double getMeanMicros() {
+        long calls = count.sum();
+        return calls == 0 ? 0 : totalNanos.sum() / 1e3 / calls;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return getPercentileNanos(0.50) / 1e3;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return getPercentileNanos(0.99) / 1e3;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return maxNanos.get() / 1e3;
+    }
+
+    /**
+     * Upper bound in nanoseconds of the bucket that holds the given fraction of calls.
+     */
+    public long getPercentileNanos(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Fraction must be between 0 and 1");
+        }
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(fraction * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(rank, 1)) {
+                return Math.min(upperBoundNanos(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Calls per bucket; bucket {@code i} counts durations below {@code 2^i} nanoseconds.
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    static long upperBoundNanos(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics{" +
+                "name='" + name + '\'' +
+                ", count=" + getCount() +
+                ", meanMicros=" + String.format("%.1f", getMeanMicros()) +
+                ", p99Micros=" + String.format("%.1f", getP99Micros()) +
+                '}';
+    }
+}
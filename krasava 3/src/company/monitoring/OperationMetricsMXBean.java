@@ -0,0 +1,23 @@
+package company.monitoring;
+
+/**
+ * JMX view of one instrumented operation. Percentiles are the upper bound of the
+ * power-of-two bucket that contains them, so they overestimate by less than 2x.
+ */
+public interface OperationMetricsMXBean {
+    String getName();
+
+    long getCount();
+
+    double getTotalMillis();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getMaxMicros();
+
+    void reset();
+}
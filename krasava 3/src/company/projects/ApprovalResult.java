@@ -0,0 +1,39 @@
+package company.projects;
+
+import java.util.Objects;
+
+/**
+ * Outcome of approving one time entry in a batch.
+ */
+public final class ApprovalResult {
+    private final TimeEntry entry;
+    private final Status status;
+    private final String reason;
+
+    public enum Status {
+        APPROVED,
+        ALREADY_APPROVED,
+        REJECTED
+    }
+
+    ApprovalResult(TimeEntry entry, Status status, String reason) {
+        this.entry = Objects.requireNonNull(entry, "Time entry cannot be null");
+        this.status = Objects.requireNonNull(status, "Status cannot be null");
+        this.reason = reason;
+    }
+
+    // Getters
+    public TimeEntry getEntry() { return entry; }
+    public Status getStatus() { return status; }
+    public String getReason() { return reason; }
+    public boolean isRejected() { return status == Status.REJECTED; }
+
+    @Override
+    public String toString() {
+        return "ApprovalResult{" +
+                "entry='" + entry.getTimeEntryId() + '\'' +
+                ", status=" + status +
+                (reason != null ? ", reason='" + reason + '\'' : "") +
+                '}';
+    }
+}
@@ -0,0 +1,112 @@
+package company.projects;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Week-by-week comparison of a project's team capacity with the remaining work on its
+ * open tasks, from the planning date up to the project's end date. Weeks start on Monday;
+ * the first and last week may be partial.
+ */
+public final class CapacityPlan {
+    private final String projectId;
+    private final List<Week> weeks;
+
+    CapacityPlan(String projectId, List<Week> weeks) {
+        this.projectId = Objects.requireNonNull(projectId, "Project ID cannot be null");
+        this.weeks = Collections.unmodifiableList(new ArrayList<>(weeks));
+    }
+
+    // Getters
+    public String getProjectId() { return projectId; }
+    public List<Week> getWeeks() { return weeks; }
+
+    public double getTotalCapacityHours() {
+        double total = 0;
+        for (Week week : weeks) {
+            total += week.capacityHours;
+        }
+        return total;
+    }
+
+    public double getTotalDemandHours() {
+        double total = 0;
+        for (Week week : weeks) {
+            total += week.demandHours;
+        }
+        return total;
+    }
+
+    /**
+     * Whether the work due by the end of every week fits into the capacity available up
+     * to then. Spare hours carry over to later weeks, missing hours do not.
+     */
+    public boolean isFeasible() {
+        double capacity = 0;
+        double demand = 0;
+        for (Week week : weeks) {
+            capacity += week.capacityHours;
+            demand += week.demandHours;
+            if (demand > capacity + 1e-9) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Weeks in which the scheduled demand exceeds that week's capacity.
+     */
+    public List<Week> getOverloadedWeeks() {
+        List<Week> overloaded = new ArrayList<>();
+        for (Week week : weeks) {
+            if (week.getSlackHours() < -1e-9) {
+                overloaded.add(week);
+            }
+        }
+        return overloaded;
+    }
+
+    @Override
+    public String toString() {
+        return "CapacityPlan{" +
+                "projectId='" + projectId + '\'' +
+                ", weeks=" + weeks.size() +
+                ", capacity=" + String.format("%.1f", getTotalCapacityHours()) +
+                ", demand=" + String.format("%.1f", getTotalDemandHours()) +
+                ", feasible=" + isFeasible() +
+                '}';
+    }
+
+    /**
+     * Capacity and demand of one calendar week.
+     */
+    public static final class Week {
+        private final LocalDate weekStart;
+        private final double capacityHours;
+        private final double demandHours;
+
+        Week(LocalDate weekStart, double capacityHours, double demandHours) {
+            this.weekStart = weekStart;
+            this.capacityHours = capacityHours;
+            this.demandHours = demandHours;
+        }
+
+        public LocalDate getWeekStart() { return weekStart; }
+        public double getCapacityHours() { return capacityHours; }
+        public double getDemandHours() { return demandHours; }
+        public double getSlackHours() { return capacityHours - demandHours; }
+
+        @Override
+        public String toString() {
+            return "Week{" +
+                    "start=" + weekStart +
+                    ", capacity=" + String.format("%.1f", capacityHours) +
+                    ", demand=" + String.format("%.1f", demandHours) +
+                    '}';
+        }
+    }
+}
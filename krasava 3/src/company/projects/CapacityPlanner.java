@@ -0,0 +1,277 @@
+package company.projects;
+
+import company.empoloyees.Employee;
+import company.structure.WorkSchedule;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Compares what a project's team can deliver before its end date with the work left on its tasks.
+ * <p>
+ * Capacity is the sum of the active participants' scheduled working minutes per week,
+ * counted from the planning date. Demand is each open task's estimate minus its approved
+ * hours, spread over the weeks up to the task's due date in proportion to the assignee's
+ * working minutes (calendar time for unassigned tasks).
+ * <p>
+ * The first {@link #plan(Project)} of a project computes everything. After that the planner
+ * follows {@link TaskEvents} and {@link TimeEntryEvents} and only recomputes the demand of
+ * the task that changed. A project is recomputed from scratch when its dates change or a
+ * new week starts; call {@link #invalidate(Project)} after changing its participants or
+ * their schedules.
+ */
+public final class CapacityPlanner implements TaskListener, TimeEntryListener, AutoCloseable {
+    private final Clock clock;
+    private final Map<Project, ProjectState> states;
+
+    private CapacityPlanner(Clock clock) {
+        this.clock = clock;
+        this.states = new ConcurrentHashMap<>();
+    }
+
+    public static CapacityPlanner create() {
+        return create(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a planner that is already subscribed to task and time entry events.
+     *
+     * @param clock source of the planning date
+     */
+    public static CapacityPlanner create(Clock clock) {
+        CapacityPlanner planner = new CapacityPlanner(Objects.requireNonNull(clock, "Clock cannot be null"));
+        TaskEvents.register(planner);
+        TimeEntryEvents.register(planner);
+        return planner;
+    }
+
+    public CapacityPlan plan(Project project) {
+        Objects.requireNonNull(project, "Project cannot be null");
+        LocalDateTime now = LocalDateTime.now(clock);
+        CapacityPlan[] plan = new CapacityPlan[1];
+        // Builds and listener updates of one project are serialized by the map
+        states.compute(project, (p, state) -> {
+            if (state == null || !state.isCurrent(p, now)) {
+                state = new ProjectState(p, now);
+            }
+            plan[0] = state.toPlan(p.getProjectId());
+            return state;
+        });
+        return plan[0];
+    }
+
+    /**
+     * Plans several projects in parallel on the given pool, returning the plans in input order.
+     */
+    public List<CapacityPlan> planAll(Collection<Project> projects, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        List<Project> list = List.copyOf(Objects.requireNonNull(projects, "Projects cannot be null"));
+        return pool.submit(() -> list.parallelStream()
+                .map(this::plan)
+                .collect(Collectors.toList())).join();
+    }
+
+    /**
+     * Drops the cached state of a project so the next plan recomputes its capacity.
+     */
+    public void invalidate(Project project) {
+        states.remove(project);
+    }
+
+    // Listener callbacks
+    @Override
+    public void onCreated(Task task) {
+        refresh(task);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, Task.TaskStatus oldStatus) {
+        refresh(task);
+    }
+
+    @Override
+    public void onDueDateChanged(Task task, LocalDateTime oldDueDate) {
+        refresh(task);
+    }
+
+    @Override
+    public void onReassigned(Task task, Employee oldAssignee) {
+        refresh(task);
+    }
+
+    @Override
+    public void onEstimateChanged(Task task, double oldEstimatedHours) {
+        refresh(task);
+    }
+
+    @Override
+    public void onApproved(TimeEntry entry) {
+        if (entry.getTask() != null) {
+            refresh(entry.getTask());
+        }
+    }
+
+    @Override
+    public void onRejected(TimeEntry entry) {
+        if (entry.getTask() != null) {
+            refresh(entry.getTask());
+        }
+    }
+
+    @Override
+    public void close() {
+        TaskEvents.unregister(this);
+        TimeEntryEvents.unregister(this);
+    }
+
+    // Private helper methods
+    private void refresh(Task task) {
+        states.computeIfPresent(task.getProject(), (project, state) -> {
+            state.update(task);
+            return state;
+        });
+    }
+
+    /**
+     * Cached capacity and per-task demand of one project, indexed by week.
+     */
+    private static final class ProjectState {
+        private final LocalDateTime projectStart;
+        private final LocalDateTime projectEnd;
+        private final LocalDateTime windowStart;
+        private final LocalDateTime windowEnd;
+        private final LocalDate firstWeek;
+        private final double[] capacity;
+        private final double[] demand;
+        private final Map<Task, double[]> contributions;
+
+        ProjectState(Project project, LocalDateTime now) {
+            this.projectStart = project.getStartDate();
+            this.projectEnd = project.getEndDate();
+            LocalDateTime today = now.truncatedTo(ChronoUnit.MINUTES);
+            this.windowStart = today.isAfter(projectStart) ? today : projectStart;
+            this.windowEnd = projectEnd;
+            this.firstWeek = windowStart.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            int weeks = windowEnd.isAfter(windowStart)
+                    ? (int) (ChronoUnit.DAYS.between(firstWeek, windowEnd.toLocalDate()) / 7) + 1
+                    : 0;
+            this.capacity = new double[weeks];
+            this.demand = new double[weeks];
+            this.contributions = new HashMap<>();
+
+            Map<WorkSchedule, Integer> headcount = new IdentityHashMap<>();
+            for (Employee participant : project.getParticipants()) {
+                if (participant.isActive()) {
+                    headcount.merge(participant.getWorkSchedule(), 1, Integer::sum);
+                }
+            }
+            for (Map.Entry<WorkSchedule, Integer> e : headcount.entrySet()) {
+                for (int i = 0; i < weeks; i++) {
+                    capacity[i] += e.getKey().getWorkingMinutesBetween(weekFrom(i), weekTo(i)) * e.getValue() / 60.0;
+                }
+            }
+            for (Task task : project.getTasks()) {
+                update(task);
+            }
+        }
+
+        boolean isCurrent(Project project, LocalDateTime now) {
+            return projectStart.equals(project.getStartDate())
+                    && projectEnd.equals(project.getEndDate())
+                    && now.toLocalDate().isBefore(firstWeek.plusWeeks(1));
+        }
+
+        void update(Task task) {
+            double[] old = contributions.remove(task);
+            if (old != null) {
+                for (int i = 0; i < old.length; i++) {
+                    demand[i] -= old[i];
+                }
+            }
+            double[] spread = spread(task);
+            if (spread != null) {
+                for (int i = 0; i < spread.length; i++) {
+                    demand[i] += spread[i];
+                }
+                contributions.put(task, spread);
+            }
+        }
+
+        CapacityPlan toPlan(String projectId) {
+            List<CapacityPlan.Week> weeks = new ArrayList<>(capacity.length);
+            for (int i = 0; i < capacity.length; i++) {
+                weeks.add(new CapacityPlan.Week(firstWeek.plusWeeks(i), capacity[i], Math.max(0, demand[i])));
+            }
+            return new CapacityPlan(projectId, weeks);
+        }
+
+        // Remaining hours of an open task per week, or null if it adds no demand
+        private double[] spread(Task task) {
+            Task.TaskStatus status = task.getStatus();
+            double remaining = task.getEstimatedHours() - task.getActualHours();
+            if (capacity.length == 0 || remaining <= 0
+                    || status == Task.TaskStatus.COMPLETED || status == Task.TaskStatus.CANCELLED) {
+                return null;
+            }
+            LocalDateTime due = task.getDueDate().isBefore(windowEnd) ? task.getDueDate() : windowEnd;
+            Employee assignee = task.getAssignedEmployee();
+            double[] weights = new double[capacity.length];
+            double total = assignee != null ? weigh(weights, due, assignee.getWorkSchedule()) : 0;
+            if (total == 0) {
+                total = weigh(weights, due, null);
+            }
+            double[] spread = new double[capacity.length];
+            if (total == 0) {
+                // Overdue: all remaining work is due now
+                spread[0] = remaining;
+            } else {
+                for (int i = 0; i < spread.length; i++) {
+                    spread[i] = remaining * weights[i] / total;
+                }
+            }
+            return spread;
+        }
+
+        // Working minutes (or calendar minutes without a schedule) of each week before the due date
+        private double weigh(double[] weights, LocalDateTime due, WorkSchedule schedule) {
+            double total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                LocalDateTime from = weekFrom(i);
+                LocalDateTime to = weekTo(i).isBefore(due) ? weekTo(i) : due;
+                if (!to.isAfter(from)) {
+                    weights[i] = 0;
+                    continue;
+                }
+                weights[i] = schedule != null
+                        ? schedule.getWorkingMinutesBetween(from, to)
+                        : ChronoUnit.MINUTES.between(from, to);
+                total += weights[i];
+            }
+            return total;
+        }
+
+        private LocalDateTime weekFrom(int week) {
+            LocalDateTime start = firstWeek.plusWeeks(week).atStartOfDay();
+            return start.isAfter(windowStart) ? start : windowStart;
+        }
+
+        private LocalDateTime weekTo(int week) {
+            LocalDateTime end = firstWeek.plusWeeks(week + 1L).atStartOfDay();
+            return end.isBefore(windowEnd) ? end : windowEnd;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package company.projects;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-aggregated approved hours per project, task and employee, kept in hourly, daily
+ * and weekly buckets (weeks start on Monday, times are read as UTC like the time reports).
+ * <p>
+ * Register the rollups with {@link TimeEntryEvents}: every approval adds the entry's
+ * seconds to the buckets it overlaps, and rejecting an approved entry takes them out
+ * again. Period queries combine whole weeks, whole days and edge hours, so they cost a
+ * number of bucket reads that depends on the period length, not on the number of entries.
+ * <p>
+ * {@link #compact(LocalDateTime)} drops hourly buckets older than the hourly retention and
+ * daily buckets older than the daily retention; the coarser buckets already hold their
+ * totals. Query bounds that fall into a compacted range are rounded down to the finest
+ * resolution still kept there. Entries are counted in the bucket that holds their start.
+ */
+public final class HourRollups implements TimeEntryListener, AutoCloseable {
+    private static final long HOUR = 3_600;
+    private static final long DAY = 24 * HOUR;
+    private static final long WEEK = 7 * DAY;
+    // 1969-12-29, the Monday before the epoch
+    private static final long WEEK_ORIGIN = -3 * DAY;
+    private static final Duration DEFAULT_HOURLY_RETENTION = Duration.ofDays(2);
+    private static final Duration DEFAULT_DAILY_RETENTION = Duration.ofDays(90);
+
+    private final Duration hourlyRetention;
+    private final Duration dailyRetention;
+    private final Map<String, Series> byProject;
+    private final Map<String, Series> byTask;
+    private final Map<String, Series> byEmployee;
+    private final Series total;
+    // Entries whose hours are in the buckets, by identity; released with the entries themselves
+    private final Set<TimeEntry> credited;
+    // Epoch seconds below which hourly (day-aligned) and daily (week-aligned) buckets have been dropped
+    private volatile long hourlyHorizon;
+    private volatile long dailyHorizon;
+
+    private HourRollups(Duration hourlyRetention, Duration dailyRetention) {
+        this.hourlyRetention = hourlyRetention;
+        this.dailyRetention = dailyRetention;
+        this.byProject = new ConcurrentHashMap<>();
+        this.byTask = new ConcurrentHashMap<>();
+        this.byEmployee = new ConcurrentHashMap<>();
+        this.total = new Series();
+        this.credited = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+        this.hourlyHorizon = Long.MIN_VALUE;
+        this.dailyHorizon = Long.MIN_VALUE;
+    }
+
+    /**
+     * Creates rollups that keep hourly buckets for 2 days and daily buckets for 90 days,
+     * already subscribed to time entry events.
+     */
+    public static HourRollups create() {
+        return create(DEFAULT_HOURLY_RETENTION, DEFAULT_DAILY_RETENTION);
+    }
+
+    public static HourRollups create(Duration hourlyRetention, Duration dailyRetention) {
+        Objects.requireNonNull(hourlyRetention, "Hourly retention cannot be null");
+        Objects.requireNonNull(dailyRetention, "Daily retention cannot be null");
+        if (hourlyRetention.isNegative() || dailyRetention.compareTo(hourlyRetention) < 0) {
+            throw new IllegalArgumentException("Daily retention must be at least the hourly retention");
+        }
+        HourRollups rollups = new HourRollups(hourlyRetention, dailyRetention);
+        TimeEntryEvents.register(rollups);
+        return rollups;
+    }
+
+    // Listener callbacks
+    @Override
+    public void onApproved(TimeEntry entry) {
+        if (entry.getEndTime() != null && credited.add(entry)) {
+            apply(entry, 1);
+        }
+    }
+
+    @Override
+    public void onRejected(TimeEntry entry) {
+        if (credited.remove(entry)) {
+            apply(entry, -1);
+        }
+    }
+
+    // Period queries over [from, to), bounds truncated to the hour
+    public double getProjectHours(String projectId, LocalDateTime from, LocalDateTime to) {
+        return hours(byProject.get(projectId), from, to);
+    }
+
+    public double getTaskHours(String taskId, LocalDateTime from, LocalDateTime to) {
+        return hours(byTask.get(taskId), from, to);
+    }
+
+    public double getEmployeeHours(String employeeId, LocalDateTime from, LocalDateTime to) {
+        return hours(byEmployee.get(employeeId), from, to);
+    }
+
+    public double getTotalHours(LocalDateTime from, LocalDateTime to) {
+        return hours(total, from, to);
+    }
+
+    public long getEntryCount(LocalDateTime from, LocalDateTime to) {
+        return total.sum(toSecond(from), toSecond(to), hourlyHorizon, dailyHorizon)[1];
+    }
+
+    public SortedMap<String, Double> getHoursByProject(LocalDateTime from, LocalDateTime to) {
+        return hoursByKey(byProject, from, to);
+    }
+
+    public SortedMap<String, Double> getHoursByTask(LocalDateTime from, LocalDateTime to) {
+        return hoursByKey(byTask, from, to);
+    }
+
+    public SortedMap<String, Double> getHoursByEmployee(LocalDateTime from, LocalDateTime to) {
+        return hoursByKey(byEmployee, from, to);
+    }
+
+    /**
+     * Approved hours per calendar day of the period; days without hours are left out.
+     * Where daily buckets have been compacted, each week is reported under its Monday.
+     */
+    public SortedMap<LocalDate, Double> getHoursByDay(LocalDateTime from, LocalDateTime to) {
+        long start = toSecond(from);
+        long end = toSecond(to);
+        long hourly = hourlyHorizon;
+        long daily = dailyHorizon;
+        SortedMap<LocalDate, Double> result = new TreeMap<>();
+        long day = start < daily ? floor(start, WEEK, WEEK_ORIGIN) : floor(start, DAY, 0);
+        while (day < end) {
+            long next = day < daily ? day + WEEK : day + DAY;
+            long seconds = total.sum(Math.max(day, start), Math.min(next, end), hourly, daily)[0];
+            if (seconds != 0) {
+                result.put(LocalDate.ofEpochDay(Math.floorDiv(day, DAY)), seconds / (double) HOUR);
+            }
+            day = next;
+        }
+        return Collections.unmodifiableSortedMap(result);
+    }
+
+    /**
+     * Drops the hourly and daily buckets that fell out of their retention windows.
+     */
+    public synchronized void compact(LocalDateTime now) {
+        long second = now.toEpochSecond(ZoneOffset.UTC);
+        long daily = Math.max(dailyHorizon, floor(second - dailyRetention.getSeconds(), WEEK, WEEK_ORIGIN));
+        long hourly = Math.max(Math.max(hourlyHorizon, daily), floor(second - hourlyRetention.getSeconds(), DAY, 0));
+        dailyHorizon = daily;
+        hourlyHorizon = hourly;
+        total.compact(hourly, daily);
+        for (Map<String, Series> dimension : List.of(byProject, byTask, byEmployee)) {
+            for (Series series : dimension.values()) {
+                series.compact(hourly, daily);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        TimeEntryEvents.unregister(this);
+    }
+
+    // Private helper methods
+    private void apply(TimeEntry entry, int sign) {
+        long start = entry.getStartTime().toEpochSecond(ZoneOffset.UTC);
+        long end = entry.getEndTime().toEpochSecond(ZoneOffset.UTC);
+        if (end <= start) {
+            return;
+        }
+        long hourly = hourlyHorizon;
+        long daily = dailyHorizon;
+        total.add(start, end, sign, hourly, daily);
+        series(byProject, entry.getProject().getProjectId()).add(start, end, sign, hourly, daily);
+        series(byEmployee, entry.getEmployee().getEmployeeId()).add(start, end, sign, hourly, daily);
+        if (entry.getTask() != null) {
+            series(byTask, entry.getTask().getTaskId()).add(start, end, sign, hourly, daily);
+        }
+    }
+
+    private static Series series(Map<String, Series> dimension, String key) {
+        return dimension.computeIfAbsent(key, k -> new Series());
+    }
+
+    private double hours(Series series, LocalDateTime from, LocalDateTime to) {
+        long start = toSecond(from);
+        long end = toSecond(to);
+        if (series == null) {
+            return 0;
+        }
+        return series.sum(start, end, hourlyHorizon, dailyHorizon)[0] / (double) HOUR;
+    }
+
+    private SortedMap<String, Double> hoursByKey(Map<String, Series> dimension, LocalDateTime from, LocalDateTime to) {
+        long start = toSecond(from);
+        long end = toSecond(to);
+        long hourly = hourlyHorizon;
+        long daily = dailyHorizon;
+        SortedMap<String, Double> result = new TreeMap<>();
+        for (Map.Entry<String, Series> e : dimension.entrySet()) {
+            long seconds = e.getValue().sum(start, end, hourly, daily)[0];
+            if (seconds != 0) {
+                result.put(e.getKey(), seconds / (double) HOUR);
+            }
+        }
+        return Collections.unmodifiableSortedMap(result);
+    }
+
+    private static long toSecond(LocalDateTime time) {
+        Objects.requireNonNull(time, "Time cannot be null");
+        return time.truncatedTo(ChronoUnit.HOURS).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long floor(long second, long size, long origin) {
+        return Math.floorDiv(second - origin, size) * size + origin;
+    }
+
+    private static long ceil(long second, long size, long origin) {
+        return -Math.floorDiv(origin - second, size) * size + origin;
+    }
+
+    /**
+     * Buckets of one project, task or employee. Keys are bucket start seconds; values hold
+     * the approved seconds and the number of entries starting in the bucket.
+     */
+    private static final class Series {
+        private final TreeMap<Long, long[]> hours = new TreeMap<>();
+        private final TreeMap<Long, long[]> days = new TreeMap<>();
+        private final TreeMap<Long, long[]> weeks = new TreeMap<>();
+        // Horizons this series has been compacted to; callers may pass older ones
+        private long hourlyCompacted = Long.MIN_VALUE;
+        private long dailyCompacted = Long.MIN_VALUE;
+
+        synchronized void add(long start, long end, int sign, long hourlyHorizon, long dailyHorizon) {
+            hourlyHorizon = Math.max(hourlyHorizon, hourlyCompacted);
+            dailyHorizon = Math.max(dailyHorizon, dailyCompacted);
+            addLevel(weeks, start, end, sign, WEEK, WEEK_ORIGIN, Long.MIN_VALUE);
+            addLevel(days, start, end, sign, DAY, 0, dailyHorizon);
+            addLevel(hours, start, end, sign, HOUR, 0, hourlyHorizon);
+        }
+
+        /**
+         * Sums {@code [from, to)} from the coarsest buckets that fit.
+         *
+         * @return approved seconds and number of entries
+         */
+        synchronized long[] sum(long from, long to, long hourlyHorizon, long dailyHorizon) {
+            long[] result = new long[2];
+            hourlyHorizon = Math.max(hourlyHorizon, hourlyCompacted);
+            dailyHorizon = Math.max(dailyHorizon, dailyCompacted);
+            from = align(from, hourlyHorizon, dailyHorizon);
+            to = align(to, hourlyHorizon, dailyHorizon);
+            if (to <= from) {
+                return result;
+            }
+            long firstWeek = ceil(from, WEEK, WEEK_ORIGIN);
+            long lastWeek = floor(to, WEEK, WEEK_ORIGIN);
+            if (firstWeek < lastWeek) {
+                sumLevel(weeks, firstWeek, lastWeek, result);
+                sumDays(from, firstWeek, result);
+                sumDays(lastWeek, to, result);
+            } else {
+                sumDays(from, to, result);
+            }
+            return result;
+        }
+
+        synchronized void compact(long hourlyHorizon, long dailyHorizon) {
+            hourlyCompacted = Math.max(hourlyCompacted, hourlyHorizon);
+            dailyCompacted = Math.max(dailyCompacted, dailyHorizon);
+            hours.headMap(hourlyHorizon).clear();
+            days.headMap(dailyHorizon).clear();
+        }
+
+        private void sumDays(long from, long to, long[] result) {
+            long firstDay = ceil(from, DAY, 0);
+            long lastDay = floor(to, DAY, 0);
+            if (firstDay < lastDay) {
+                sumLevel(days, firstDay, lastDay, result);
+                sumLevel(hours, from, firstDay, result);
+                sumLevel(hours, lastDay, to, result);
+            } else {
+                sumLevel(hours, from, to, result);
+            }
+        }
+
+        private static void sumLevel(TreeMap<Long, long[]> level, long from, long to, long[] result) {
+            if (from >= to) {
+                return;
+            }
+            for (long[] bucket : level.subMap(from, to).values()) {
+                result[0] += bucket[0];
+                result[1] += bucket[1];
+            }
+        }
+
+        // Rounds a bound down to the finest resolution still kept at that time
+        private static long align(long second, long hourlyHorizon, long dailyHorizon) {
+            if (second >= hourlyHorizon) {
+                return second;
+            }
+            return second >= dailyHorizon ? floor(second, DAY, 0) : floor(second, WEEK, WEEK_ORIGIN);
+        }
+
+        private static void addLevel(TreeMap<Long, long[]> level, long start, long end, int sign,
+                                     long size, long origin, long horizon) {
+            long from = Math.max(start, horizon);
+            for (long bucket = floor(from, size, origin); bucket < end; bucket += size) {
+                long overlap = Math.min(end, bucket + size) - Math.max(from, bucket);
+                update(level, bucket, sign * overlap, 0);
+            }
+            if (start >= horizon) {
+                update(level, floor(start, size, origin), 0, sign);
+            }
+        }
+
+        private static void update(TreeMap<Long, long[]> level, long bucket, long seconds, long entries) {
+            long[] values = level.computeIfAbsent(bucket, b -> new long[2]);
+            values[0] += seconds;
+            values[1] += entries;
+            if (values[0] == 0 && values[1] == 0) {
+                level.remove(bucket);
+            }
+        }
+    }
+}
@@ -2,11 +2,14 @@ package company.projects;
 
 import company.empoloyees.Manager;
 import company.empoloyees.Employee;
+import company.empoloyees.EmployeeRoster;
+import company.monitoring.Metrics;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 public class Project {
     private final String projectId;
@@ -15,11 +18,13 @@ public class Project {
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private Manager projectManager;
-    private final List<Employee> participants;
+    private final EmployeeRoster participants;
+    // Guarded by its own monitor; appended to on every task creation, so never copied on write
     private final List<Task> tasks;
     private double estimatedHours;
-    private double actualHours;
-    private ProjectStatus status;
+    // Logged work in whole minutes; an adder so concurrent approvals never lose updates
+    private final LongAdder actualMinutes;
+    private final AtomicReference<ProjectStatus> status;
 
     public enum ProjectStatus {
         PLANNED, IN_PROGRESS, ON_HOLD, COMPLETED, CANCELLED
@@ -34,38 +39,67 @@ public class Project {
         this.startDate = startDate;
         this.endDate = endDate;
         this.projectManager = projectManager;
-        this.participants = new ArrayList<>();
+        this.participants = new EmployeeRoster();
         this.tasks = new ArrayList<>();
-        this.status = ProjectStatus.PLANNED;
+        this.actualMinutes = new LongAdder();
+        this.status = new AtomicReference<>(ProjectStatus.PLANNED);
         
         addParticipant(projectManager);
     }
 
+    // Trusted constructor for values read back from a snapshot; participants are added by the caller
+    Project(String projectId, String name, String description, LocalDateTime startDate, LocalDateTime endDate,
+            Manager projectManager, double estimatedHours, long actualMinutes, ProjectStatus status) {
+        this.projectId = projectId;
+        this.name = name;
+        this.description = description;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.projectManager = projectManager;
+        this.participants = new EmployeeRoster();
+        this.tasks = new ArrayList<>();
+        this.estimatedHours = estimatedHours;
+        this.actualMinutes = new LongAdder();
+        this.actualMinutes.add(actualMinutes);
+        this.status = new AtomicReference<>(status);
+    }
+
     // Package-private methods for internal project management
     void addParticipant(Employee employee) {
         Objects.requireNonNull(employee, "Employee cannot be null");
-        if (!participants.contains(employee)) {
-            participants.add(employee);
+        participants.add(employee);
+    }
+
+    void updateActualMinutes(long minutes) {
+        long start = Metrics.start();
+        try {
+            if (minutes < 0) {
+                throw new IllegalArgumentException("Minutes cannot be negative");
+            }
+            actualMinutes.add(minutes);
+            status.compareAndSet(ProjectStatus.PLANNED, ProjectStatus.IN_PROGRESS);
+        } finally {
+            Metrics.PROJECT_UPDATE_ACTUAL_HOURS.record(start);
         }
     }
 
-    void updateActualHours(double hours) {
-        if (hours < 0) {
-            throw new IllegalArgumentException("Hours cannot be negative");
-        }
-        this.actualHours += hours;
-        if (status == ProjectStatus.PLANNED) {
-            status = ProjectStatus.IN_PROGRESS;
+    void revertActualMinutes(long minutes) {
+        if (minutes < 0) {
+            throw new IllegalArgumentException("Minutes cannot be negative");
         }
+        actualMinutes.add(-minutes);
     }
 
     void addTask(Task task) {
-        tasks.add(Objects.requireNonNull(task, "Task cannot be null"));
+        Objects.requireNonNull(task, "Task cannot be null");
+        synchronized (tasks) {
+            tasks.add(task);
+        }
     }
 
     // Protected methods for project management
     protected void setStatus(ProjectStatus newStatus) {
-        this.status = Objects.requireNonNull(newStatus, "Status cannot be null");
+        this.status.set(Objects.requireNonNull(newStatus, "Status cannot be null"));
     }
 
     // Public methods for project information
@@ -75,15 +109,24 @@ public class Project {
     public LocalDateTime getStartDate() { return startDate; }
     public LocalDateTime getEndDate() { return endDate; }
     public Manager getProjectManager() { return projectManager; }
-    public ProjectStatus getStatus() { return status; }
+    public ProjectStatus getStatus() { return status.get(); }
     public double getEstimatedHours() { return estimatedHours; }
-    public double getActualHours() { return actualHours; }
-    public List<Employee> getParticipants() { return Collections.unmodifiableList(participants); }
-    public List<Task> getTasks() { return Collections.unmodifiableList(tasks); }
+    public double getActualHours() { return actualMinutes.sum() / 60.0; }
+    public long getActualMinutes() { return actualMinutes.sum(); }
+    public List<Employee> getParticipants() { return participants.asList(); }
+
+    /**
+     * Returns a snapshot of the project's tasks, in creation order.
+     */
+    public List<Task> getTasks() {
+        synchronized (tasks) {
+            return List.copyOf(tasks);
+        }
+    }
 
     public double getProgress() {
         if (estimatedHours == 0) return 0;
-        return (actualHours / estimatedHours) * 100;
+        return (getActualHours() / estimatedHours) * 100;
     }
 
     // Public methods for project updates
@@ -106,9 +149,7 @@ public class Project {
 
     public void changeProjectManager(Manager newManager) {
         Objects.requireNonNull(newManager, "Project manager cannot be null");
-        if (!participants.contains(newManager)) {
-            participants.add(newManager);
-        }
+        participants.add(newManager);
         this.projectManager = newManager;
     }
 
@@ -149,14 +190,18 @@ public class Project {
 
     @Override
     public String toString() {
+        int taskCount;
+        synchronized (tasks) {
+            taskCount = tasks.size();
+        }
         return "Project{" +
                 "id='" + projectId + '\'' +
                 ", name='" + name + '\'' +
                 ", manager=" + projectManager.getFullName() +
-                ", status=" + status +
+                ", status=" + status.get() +
                 ", progress=" + String.format("%.1f%%", getProgress()) +
                 ", participants=" + participants.size() +
-                ", tasks=" + tasks.size() +
+                ", tasks=" + taskCount +
                 '}';
     }
 }
@@ -0,0 +1,116 @@
+package company.projects;
+
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.snapshot.SnapshotFormat;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Snapshot records of projects, tasks and time entries. Reading goes through trusted
+ * constructors: nothing is validated again and no task or time entry events are fired,
+ * so listeners registered before a load do not see the restored records as new.
+ */
+public final class ProjectCodec {
+    private static final Project.ProjectStatus[] PROJECT_STATUSES = Project.ProjectStatus.values();
+    private static final Task.TaskStatus[] TASK_STATUSES = Task.TaskStatus.values();
+    private static final Task.TaskPriority[] PRIORITIES = Task.TaskPriority.values();
+
+    private ProjectCodec() {
+    }
+
+    public static void writeProject(DataOutput out, Project project,
+                                    ToIntFunction<Employee> employeeIds) throws IOException {
+        SnapshotFormat.writeString(out, project.getProjectId());
+        SnapshotFormat.writeString(out, project.getName());
+        SnapshotFormat.writeString(out, project.getDescription());
+        SnapshotFormat.writeDateTime(out, project.getStartDate());
+        SnapshotFormat.writeDateTime(out, project.getEndDate());
+        out.writeInt(employeeIds.applyAsInt(project.getProjectManager()));
+        out.writeDouble(project.getEstimatedHours());
+        out.writeLong(project.getActualMinutes());
+        out.writeByte(project.getStatus().ordinal());
+        List<Employee> participants = project.getParticipants();
+        out.writeInt(participants.size());
+        for (Employee participant : participants) {
+            out.writeInt(employeeIds.applyAsInt(participant));
+        }
+    }
+
+    public static Project readProject(DataInput in, Employee[] employees) throws IOException {
+        String projectId = SnapshotFormat.readString(in);
+        String name = SnapshotFormat.readString(in);
+        String description = SnapshotFormat.readString(in);
+        Project project = new Project(projectId, name, description,
+                SnapshotFormat.readDateTime(in), SnapshotFormat.readDateTime(in),
+                manager(SnapshotFormat.resolve(employees, in.readInt()), projectId),
+                in.readDouble(), in.readLong(), PROJECT_STATUSES[in.readUnsignedByte()]);
+        int participants = in.readInt();
+        for (int i = 0; i < participants; i++) {
+            project.addParticipant(SnapshotFormat.resolve(employees, in.readInt()));
+        }
+        return project;
+    }
+
+    public static void writeTask(DataOutput out, Task task, ToIntFunction<Project> projectIds,
+                                 ToIntFunction<Employee> employeeIds) throws IOException {
+        SnapshotFormat.writeString(out, task.getTaskId());
+        SnapshotFormat.writeString(out, task.getTitle());
+        SnapshotFormat.writeString(out, task.getDescription());
+        out.writeInt(projectIds.applyAsInt(task.getProject()));
+        Employee assignee = task.getAssignedEmployee();
+        out.writeInt(assignee != null ? employeeIds.applyAsInt(assignee) : SnapshotFormat.NULL_REF);
+        out.writeDouble(task.getEstimatedHours());
+        out.writeLong(task.getActualMinutes());
+        out.writeByte(task.getPriority().ordinal());
+        out.writeByte(task.getStatus().ordinal());
+        SnapshotFormat.writeDateTime(out, task.getDueDate());
+    }
+
+    /**
+     * Reads a task and adds it to its project.
+     */
+    public static Task readTask(DataInput in, Project[] projects, Employee[] employees) throws IOException {
+        return new Task(SnapshotFormat.readString(in), SnapshotFormat.readString(in), SnapshotFormat.readString(in),
+                SnapshotFormat.resolve(projects, in.readInt()), SnapshotFormat.resolve(employees, in.readInt()),
+                in.readDouble(), in.readLong(), PRIORITIES[in.readUnsignedByte()],
+                TASK_STATUSES[in.readUnsignedByte()], SnapshotFormat.readDateTime(in));
+    }
+
+    public static void writeTimeEntry(DataOutput out, TimeEntry entry, ToIntFunction<Employee> employeeIds,
+                                      ToIntFunction<Project> projectIds,
+                                      ToIntFunction<Task> taskIds) throws IOException {
+        SnapshotFormat.writeString(out, entry.getTimeEntryId());
+        out.writeInt(employeeIds.applyAsInt(entry.getEmployee()));
+        out.writeInt(projectIds.applyAsInt(entry.getProject()));
+        out.writeInt(entry.getTask() != null ? taskIds.applyAsInt(entry.getTask()) : SnapshotFormat.NULL_REF);
+        SnapshotFormat.writeDateTime(out, entry.getStartTime());
+        SnapshotFormat.writeDateTime(out, entry.getEndTime());
+        SnapshotFormat.writeString(out, entry.getDescription());
+        out.writeBoolean(entry.isApproved());
+        SnapshotFormat.writeDateTime(out, entry.getCreatedAt());
+    }
+
+    /**
+     * Reads a time entry and adds it to its task.
+     */
+    public static TimeEntry readTimeEntry(DataInput in, Employee[] employees, Project[] projects,
+                                          Task[] tasks) throws IOException {
+        return new TimeEntry(SnapshotFormat.readString(in), SnapshotFormat.resolve(employees, in.readInt()),
+                SnapshotFormat.resolve(projects, in.readInt()), SnapshotFormat.resolve(tasks, in.readInt()),
+                SnapshotFormat.readDateTime(in), SnapshotFormat.readDateTime(in), SnapshotFormat.readString(in),
+                in.readBoolean(), SnapshotFormat.readDateTime(in));
+    }
+
+    // Private helper methods
+    private static Manager manager(Employee employee, String projectId) throws IOException {
+        if (!(employee instanceof Manager)) {
+            throw new IOException("Manager of project " + projectId + " is not a manager");
+        }
+        return (Manager) employee;
+    }
+}
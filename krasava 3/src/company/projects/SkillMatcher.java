@@ -0,0 +1,415 @@
+package company.projects;
+
+import company.empoloyees.Employee;
+import company.empoloyees.EmployeeEvents;
+import company.empoloyees.EmployeeListener;
+import company.structure.Department;
+import company.structure.Position;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Finds active employees whose position requires every skill in a given set, ranked by
+ * the hours of open work already assigned to them.
+ * <p>
+ * Skill names are dictionary-encoded to small integers the first time they are seen, and each
+ * position's required skills become a {@link BitSet} of those codes. An inverted index maps each
+ * skill to the positions requiring it, and each position to its active employees by department.
+ * A query walks only the positions of its rarest skill, checks the bitset of each, and reads the
+ * employees of the matching positions in the requested department, so its cost depends on the
+ * number of candidates rather than on the size of the organisation.
+ * <p>
+ * Positions are encoded when their first employee is indexed and are matched by identity.
+ * Shared positions from {@code ReferenceDataRegistry} never change; after changing the skills of
+ * a private position, re-index its employees with {@link #indexEmployees(Collection)}.
+ * <p>
+ * Assigned hours are the estimates of an employee's tasks that are not {@code COMPLETED} or
+ * {@code CANCELLED}, kept in fixed-point minutes.
+ * <p>
+ * The matcher listens to {@link EmployeeEvents} and {@link TaskEvents}, so department, position
+ * and active changes, new tasks, reassignments, estimate changes and closed tasks are followed.
+ * Employees and tasks that existed before it was created are added with
+ * {@link #indexEmployees(Collection)} and {@link #indexTasks(Collection)}. Queries are weakly
+ * consistent with changes made while they run.
+ */
+public final class SkillMatcher implements EmployeeListener, TaskListener, AutoCloseable {
+    private final Map<String, Skill> vocabulary;
+    private final AtomicInteger nextSkillCode;
+    private final Map<Position, PositionEntry> positions;
+    private final Map<Employee, Member> members;
+    private final Map<Employee, LongAdder> assignedMinutes;
+    private final Map<Task, Assignment> assignments;
+
+    private SkillMatcher() {
+        this.vocabulary = new ConcurrentHashMap<>();
+        this.nextSkillCode = new AtomicInteger();
+        this.positions = new IdentityHashMap<>();
+        this.members = new ConcurrentHashMap<>();
+        this.assignedMinutes = new ConcurrentHashMap<>();
+        this.assignments = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates an empty matcher that is already subscribed to employee and task events.
+     */
+    public static SkillMatcher create() {
+        SkillMatcher matcher = new SkillMatcher();
+        EmployeeEvents.register(matcher);
+        TaskEvents.register(matcher);
+        return matcher;
+    }
+
+    /**
+     * Adds existing employees, or places them again after their position's skills changed.
+     * Inactive employees are tracked but never returned.
+     */
+    public void indexEmployees(Collection<? extends Employee> employees) {
+        Objects.requireNonNull(employees, "Employees cannot be null");
+        for (Employee employee : employees) {
+            Objects.requireNonNull(employee, "Employee cannot be null");
+            synchronized (employee) {
+                synchronized (this) {
+                    PositionEntry entry = positions.get(employee.getPosition());
+                    if (entry != null && !entry.isCurrent()) {
+                        // Re-encodes the position for everyone holding it
+                        drop(entry);
+                    }
+                    place(employee, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the assigned hours of existing tasks; tasks already counted are left as they are.
+     */
+    public void indexTasks(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        for (Task task : tasks) {
+            Objects.requireNonNull(task, "Task cannot be null");
+            if (!assignments.containsKey(task)) {
+                refresh(task);
+            }
+        }
+    }
+
+    public void unregister(Employee employee) {
+        Objects.requireNonNull(employee, "Employee cannot be null");
+        synchronized (employee) {
+            synchronized (this) {
+                Member member = members.remove(employee);
+                if (member != null) {
+                    leave(member);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} active employees whose position requires all the given skills,
+     * least assigned hours first, then by employee ID.
+     *
+     * @param department only employees of this department, or {@code null} for any
+     */
+    public List<Candidate> findCandidates(Collection<String> skills, Department department, int limit) {
+        Objects.requireNonNull(skills, "Skills cannot be null");
+        if (skills.isEmpty()) {
+            throw new IllegalArgumentException("At least one skill is required");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        BitSet needed = new BitSet();
+        Skill rarest = null;
+        for (String name : skills) {
+            Skill skill = vocabulary.get(Objects.requireNonNull(name, "Skill cannot be null"));
+            if (skill == null) {
+                return Collections.emptyList();
+            }
+            needed.set(skill.code);
+            if (rarest == null || skill.positions.size() < rarest.positions.size()) {
+                rarest = skill;
+            }
+        }
+        // Max-heap on rank holding the best candidates seen so far
+        PriorityQueue<Candidate> best = new PriorityQueue<>(Math.max(1, limit), Candidate.RANK.reversed());
+        for (PositionEntry entry : rarest.positions) {
+            if (!entry.covers(needed)) {
+                continue;
+            }
+            if (department != null) {
+                collect(entry.byDepartment.get(department), best, limit);
+            } else {
+                for (Set<Member> group : entry.byDepartment.values()) {
+                    collect(group, best, limit);
+                }
+            }
+        }
+        List<Candidate> result = new ArrayList<>(best);
+        result.sort(Candidate.RANK);
+        return result;
+    }
+
+    /**
+     * Hours of open tasks currently assigned to the employee.
+     */
+    public double getAssignedHours(Employee employee) {
+        LongAdder minutes = assignedMinutes.get(Objects.requireNonNull(employee, "Employee cannot be null"));
+        return minutes != null ? minutes.sum() / 60.0 : 0;
+    }
+
+    public int getSkillCount() { return vocabulary.size(); }
+    public int size() { return members.size(); }
+
+    // Employee listener callbacks; run while the employee's lock is held
+    @Override
+    public void onDepartmentChanged(Employee employee, Department oldDepartment) {
+        place(employee, false);
+    }
+
+    @Override
+    public void onPositionChanged(Employee employee, Position oldPosition) {
+        place(employee, false);
+    }
+
+    @Override
+    public void onActiveChanged(Employee employee) {
+        place(employee, false);
+    }
+
+    // Task listener callbacks
+    @Override
+    public void onCreated(Task task) {
+        refresh(task);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, Task.TaskStatus oldStatus) {
+        refresh(task);
+    }
+
+    @Override
+    public void onReassigned(Task task, Employee oldAssignee) {
+        refresh(task);
+    }
+
+    @Override
+    public void onEstimateChanged(Task task, double oldEstimatedHours) {
+        refresh(task);
+    }
+
+    @Override
+    public void close() {
+        EmployeeEvents.unregister(this);
+        TaskEvents.unregister(this);
+    }
+
+    // Private helper methods
+    // Moves a tracked employee (or a new one, when adding) to where its current state belongs
+    private synchronized void place(Employee employee, boolean add) {
+        Member member = members.get(employee);
+        if (member == null) {
+            if (!add) {
+                return;
+            }
+            member = new Member(employee, assignedMinutes.computeIfAbsent(employee, e -> new LongAdder()));
+            members.put(employee, member);
+        } else {
+            leave(member);
+        }
+        if (!employee.isActive()) {
+            return;
+        }
+        PositionEntry entry = positions.computeIfAbsent(employee.getPosition(), this::encode);
+        member.entry = entry;
+        member.department = employee.getDepartment();
+        entry.byDepartment.computeIfAbsent(member.department, d -> ConcurrentHashMap.newKeySet()).add(member);
+    }
+
+    private void leave(Member member) {
+        if (member.entry != null) {
+            Set<Member> group = member.entry.byDepartment.get(member.department);
+            if (group != null) {
+                group.remove(member);
+            }
+            member.entry = null;
+            member.department = null;
+        }
+    }
+
+    // Forgets a position whose skills changed; members still on it are placed again by the caller
+    private void drop(PositionEntry entry) {
+        positions.remove(entry.position);
+        for (Skill skill : entry.skillList) {
+            skill.positions.remove(entry);
+        }
+        List<Member> stale = new ArrayList<>();
+        for (Set<Member> group : entry.byDepartment.values()) {
+            stale.addAll(group);
+        }
+        for (Member member : stale) {
+            leave(member);
+            place(member.employee, false);
+        }
+    }
+
+    private PositionEntry encode(Position position) {
+        List<String> required = List.copyOf(position.getRequiredSkills());
+        BitSet bits = new BitSet();
+        List<Skill> skills = new ArrayList<>(required.size());
+        for (String name : required) {
+            Skill skill = vocabulary.computeIfAbsent(name, n -> new Skill(nextSkillCode.getAndIncrement()));
+            bits.set(skill.code);
+            skills.add(skill);
+        }
+        PositionEntry entry = new PositionEntry(position, required, skills, bits);
+        for (Skill skill : skills) {
+            skill.positions.add(entry);
+        }
+        return entry;
+    }
+
+    private void refresh(Task task) {
+        assignments.compute(task, (t, old) -> {
+            if (old != null) {
+                assignedMinutes.get(old.employee).add(-old.minutes);
+            }
+            Task.TaskStatus status = task.getStatus();
+            Employee assignee = task.getAssignedEmployee();
+            if (assignee == null || status == Task.TaskStatus.COMPLETED || status == Task.TaskStatus.CANCELLED) {
+                return null;
+            }
+            long minutes = Math.round(task.getEstimatedHours() * 60);
+            assignedMinutes.computeIfAbsent(assignee, e -> new LongAdder()).add(minutes);
+            return new Assignment(assignee, minutes);
+        });
+    }
+
+    private static void collect(Set<Member> group, PriorityQueue<Candidate> best, int limit) {
+        if (group == null || limit == 0) {
+            return;
+        }
+        for (Member member : group) {
+            long minutes = member.minutes.sum();
+            Candidate worst = best.peek();
+            if (best.size() == limit && (minutes > worst.minutes
+                    || minutes == worst.minutes
+                    && member.employee.getEmployeeId().compareTo(worst.employee.getEmployeeId()) > 0)) {
+                continue;
+            }
+            best.add(new Candidate(member.employee, minutes));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+    }
+
+    /**
+     * An employee matching a query, with the hours assigned to them when it ran.
+     */
+    public static final class Candidate {
+        private static final Comparator<Candidate> RANK = Comparator.<Candidate>comparingLong(c -> c.minutes)
+                .thenComparing(c -> c.employee.getEmployeeId());
+
+        private final Employee employee;
+        private final long minutes;
+
+        private Candidate(Employee employee, long minutes) {
+            this.employee = employee;
+            this.minutes = minutes;
+        }
+
+        public Employee getEmployee() { return employee; }
+        public double getAssignedHours() { return minutes / 60.0; }
+
+        @Override
+        public String toString() {
+            return "Candidate{" +
+                    "employee='" + employee.getEmployeeId() + '\'' +
+                    ", assignedHours=" + String.format("%.1f", getAssignedHours()) +
+                    '}';
+        }
+    }
+
+    /**
+     * Code of one skill name and the positions requiring it.
+     */
+    private static final class Skill {
+        private final int code;
+        private final Set<PositionEntry> positions = ConcurrentHashMap.newKeySet();
+
+        Skill(int code) {
+            this.code = code;
+        }
+    }
+
+    /**
+     * A position's encoded skills and its active employees by department.
+     */
+    private static final class PositionEntry {
+        private final Position position;
+        private final List<String> encodedSkills;
+        private final List<Skill> skillList;
+        private final BitSet skills;
+        private final Map<Department, Set<Member>> byDepartment = new ConcurrentHashMap<>();
+
+        PositionEntry(Position position, List<String> encodedSkills, List<Skill> skillList, BitSet skills) {
+            this.position = position;
+            this.encodedSkills = encodedSkills;
+            this.skillList = skillList;
+            this.skills = skills;
+        }
+
+        boolean covers(BitSet needed) {
+            for (int code = needed.nextSetBit(0); code >= 0; code = needed.nextSetBit(code + 1)) {
+                if (!skills.get(code)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isCurrent() {
+            return encodedSkills.equals(position.getRequiredSkills());
+        }
+    }
+
+    /**
+     * Where an indexed employee currently sits; guarded by the matcher's monitor. Inactive
+     * employees have no entry.
+     */
+    private static final class Member {
+        private final Employee employee;
+        private final LongAdder minutes;
+        private PositionEntry entry;
+        private Department department;
+
+        Member(Employee employee, LongAdder minutes) {
+            this.employee = employee;
+            this.minutes = minutes;
+        }
+    }
+
+    private static final class Assignment {
+        private final Employee employee;
+        private final long minutes;
+
+        Assignment(Employee employee, long minutes) {
+            this.employee = employee;
+            this.minutes = minutes;
+        }
+    }
+}
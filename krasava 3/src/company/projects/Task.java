@@ -1,22 +1,26 @@
 package company.projects;
 
 import company.empoloyees.Employee;
+import company.monitoring.Metrics;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 public class Task {
     private final String taskId;
     private String title;
     private String description;
     private final Project project;
-    private Employee assignedEmployee;
-    private double estimatedHours;
-    private double actualHours;
-    private TaskPriority priority;
-    private TaskStatus status;
-    private LocalDateTime dueDate;
+    private volatile Employee assignedEmployee;
+    private volatile double estimatedHours;
+    // Logged work in whole minutes; an adder so concurrent approvals never lose updates
+    private final LongAdder actualMinutes;
+    private volatile TaskPriority priority;
+    private final AtomicReference<TaskStatus> status;
+    private volatile LocalDateTime dueDate;
     private final List<TimeEntry> timeEntries;
 
     // Enums for better type safety
@@ -36,48 +40,104 @@ public class Task {
         this.project = project;
         this.assignedEmployee = assignedEmployee;
         this.dueDate = dueDate;
-        this.status = TaskStatus.NEW;
+        this.status = new AtomicReference<>(TaskStatus.NEW);
         this.priority = TaskPriority.MEDIUM;
         this.timeEntries = new ArrayList<>();
-        this.actualHours = 0;
+        this.actualMinutes = new LongAdder();
+        project.addTask(this);
+        TaskEvents.fireCreated(this);
+    }
+
+    // Trusted constructor for values read back from a snapshot; fires no events
+    Task(String taskId, String title, String description, Project project, Employee assignedEmployee,
+         double estimatedHours, long actualMinutes, TaskPriority priority, TaskStatus status, LocalDateTime dueDate) {
+        this.taskId = taskId;
+        this.title = title;
+        this.description = description;
+        this.project = project;
+        this.assignedEmployee = assignedEmployee;
+        this.estimatedHours = estimatedHours;
+        this.actualMinutes = new LongAdder();
+        this.actualMinutes.add(actualMinutes);
+        this.priority = priority;
+        this.status = new AtomicReference<>(status);
+        this.dueDate = dueDate;
+        this.timeEntries = new ArrayList<>();
+        project.addTask(this);
     }
 
     // Package-private methods for project management
-    void logWork(double hours) {
-        if (hours <= 0) {
-            throw new IllegalArgumentException("Hours must be positive");
+    void logMinutes(long minutes) {
+        recordMinutes(minutes);
+        project.updateActualMinutes(minutes);
+    }
+
+    // Credits the task only; the caller is responsible for updating the project
+    void recordMinutes(long minutes) {
+        long start = Metrics.start();
+        try {
+            if (minutes <= 0) {
+                throw new IllegalArgumentException("Minutes must be positive");
+            }
+            actualMinutes.add(minutes);
+            if (status.compareAndSet(TaskStatus.NEW, TaskStatus.IN_PROGRESS)) {
+                TaskEvents.fireStatusChanged(this, TaskStatus.NEW);
+            }
+        } finally {
+            Metrics.TASK_LOG_WORK.record(start);
         }
-        this.actualHours += hours;
-        project.updateActualHours(hours);
-        
-        if (this.status == TaskStatus.NEW) {
-            this.status = TaskStatus.IN_PROGRESS;
+    }
+
+    // Takes back minutes logged by an approval that was later rejected
+    void unlogMinutes(long minutes) {
+        if (minutes <= 0) {
+            throw new IllegalArgumentException("Minutes must be positive");
         }
+        actualMinutes.add(-minutes);
+        project.revertActualMinutes(minutes);
     }
 
     void addTimeEntry(TimeEntry entry) {
-        timeEntries.add(Objects.requireNonNull(entry, "Time entry cannot be null"));
+        Objects.requireNonNull(entry, "Time entry cannot be null");
+        synchronized (timeEntries) {
+            timeEntries.add(entry);
+        }
     }
 
     // Protected methods for task management
     protected void setStatus(TaskStatus newStatus) {
-        this.status = Objects.requireNonNull(newStatus, "Status cannot be null");
+        TaskStatus oldStatus = this.status.getAndSet(Objects.requireNonNull(newStatus, "Status cannot be null"));
+        if (oldStatus != newStatus) {
+            TaskEvents.fireStatusChanged(this, oldStatus);
+        }
     }
 
     // Public methods for task information
     public String getTaskId() { return taskId; }
     public String getTitle() { return title; }
     public String getDescription() { return description; }
-    public TaskStatus getStatus() { return status; }
+    public Project getProject() { return project; }
+    public TaskStatus getStatus() { return status.get(); }
     public TaskPriority getPriority() { return priority; }
     public Employee getAssignedEmployee() { return assignedEmployee; }
     public LocalDateTime getDueDate() { return dueDate; }
     public double getEstimatedHours() { return estimatedHours; }
-    public double getActualHours() { return actualHours; }
+
+    /**
+     * Returns a snapshot of the entries logged against this task, in creation order.
+     */
+    public List<TimeEntry> getTimeEntries() {
+        synchronized (timeEntries) {
+            return List.copyOf(timeEntries);
+        }
+    }
+
+    public double getActualHours() { return actualMinutes.sum() / 60.0; }
+    public long getActualMinutes() { return actualMinutes.sum(); }
 
     public double getProgress() {
         if (estimatedHours == 0) return 0;
-        return (actualHours / estimatedHours) * 100;
+        return (getActualHours() / estimatedHours) * 100;
     }
 
     // Public methods for task updates
@@ -92,26 +152,42 @@ public class Task {
         this.title = title;
     }
 
-    public void setPriority(TaskPriority priority) {
+    public synchronized void setPriority(TaskPriority priority) {
+        TaskPriority oldPriority = this.priority;
         this.priority = Objects.requireNonNull(priority, "Priority cannot be null");
+        if (oldPriority != priority) {
+            TaskEvents.firePriorityChanged(this, oldPriority);
+        }
     }
 
-    public void reassign(Employee newEmployee) {
+    public synchronized void reassign(Employee newEmployee) {
+        Employee oldAssignee = this.assignedEmployee;
         this.assignedEmployee = Objects.requireNonNull(newEmployee, "Employee cannot be null");
+        if (!newEmployee.equals(oldAssignee)) {
+            TaskEvents.fireReassigned(this, oldAssignee);
+        }
     }
 
-    public void setEstimatedHours(double hours) {
+    public synchronized void setEstimatedHours(double hours) {
         if (hours <= 0) {
             throw new IllegalArgumentException("Estimated hours must be positive");
         }
+        double oldEstimatedHours = this.estimatedHours;
         this.estimatedHours = hours;
+        if (oldEstimatedHours != hours) {
+            TaskEvents.fireEstimateChanged(this, oldEstimatedHours);
+        }
     }
 
-    public void updateDueDate(LocalDateTime newDueDate) {
+    public synchronized void updateDueDate(LocalDateTime newDueDate) {
         if (newDueDate == null || newDueDate.isBefore(LocalDateTime.now())) {
             throw new IllegalArgumentException("Due date must be in the future");
         }
+        LocalDateTime oldDueDate = this.dueDate;
         this.dueDate = newDueDate;
+        if (!newDueDate.equals(oldDueDate)) {
+            TaskEvents.fireDueDateChanged(this, oldDueDate);
+        }
     }
 
     // Private validation methods
@@ -135,7 +211,7 @@ public class Task {
         return "Task{" +
                 "id='" + taskId + '\'' +
                 ", title='" + title + '\'' +
-                ", status=" + status +
+                ", status=" + status.get() +
                 ", priority=" + priority +
                 ", progress=" + String.format("%.1f%%", getProgress()) +
                 ", assignee=" + (assignedEmployee != null ? assignedEmployee.getFullName() : "Unassigned") +
@@ -0,0 +1,25 @@
+package company.projects;
+
+/**
+ * Receives due date events from a {@link TaskDueScheduler}. Callbacks run on the thread
+ * that advances the scheduler, outside its lock, so they may change the task.
+ */
+public interface TaskDueListener {
+    /**
+     * The task is due within the scheduler's reminder lead time.
+     */
+    default void onReminder(Task task) {
+    }
+
+    /**
+     * The task is past its due date and still open.
+     */
+    default void onOverdue(Task task) {
+    }
+
+    /**
+     * The task has been overdue for the scheduler's escalation delay and is still open.
+     */
+    default void onEscalation(Task task) {
+    }
+}
@@ -0,0 +1,393 @@
+package company.projects;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fires reminder, overdue and escalation events for open tasks without polling them.
+ * <p>
+ * Each open task has one timer in a hierarchical timing wheel of {@value #LEVELS} levels with
+ * {@value #WHEEL_SIZE} slots each; a slot of level {@code n} spans {@code 64^n} ticks, so the
+ * wheel covers {@code 64^6} ticks, about two years with one-millisecond ticks and about 2,180
+ * years with one-second ticks, before a timer has to be re-placed. Timers are
+ * linked into their slot, which makes scheduling and cancelling O(1). Each tick empties one
+ * slot of the lowest level, and every 64th tick also moves the timers of one higher-level slot
+ * down; a timer is moved at most once per level, so a tick costs the same whether a thousand
+ * or millions of tasks are waiting. Events fire at the first tick at or after their time.
+ * <p>
+ * A task's timer goes through the reminder (the reminder lead before the due date), overdue
+ * (the due date) and escalation (the escalation delay after the due date) stages in turn,
+ * skipping the reminder if the task is created past it. A zero lead or delay turns that
+ * stage off. The scheduler listens to {@link TaskEvents}: tasks are scheduled when created,
+ * rescheduled from the first stage on {@link Task#updateDueDate}, and cancelled when they reach
+ * {@code COMPLETED} or {@code CANCELLED}. Tasks that existed before the scheduler, such as ones
+ * read back from a snapshot, are added with {@link #index(Collection)}.
+ * <p>
+ * The wheel advances on {@link #advance()}, called by the scheduler's own daemon thread once
+ * {@link #start()} has been called, or by the caller directly.
+ */
+public final class TaskDueScheduler implements TaskListener, AutoCloseable {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 6;
+
+    private enum Stage {
+        REMINDER,
+        OVERDUE,
+        ESCALATION
+    }
+
+    private final Clock clock;
+    private final TaskDueListener listener;
+    private final long tickMillis;
+    private final long originMillis;
+    private final long reminderLeadMillis;
+    private final long escalationDelayMillis;
+    private final Slot[][] wheels;
+    private final Map<Task, Timer> timers;
+    private final LongAdder firedEvents;
+    private final LongAdder failedCallbacks;
+    private long currentTick;
+    private ScheduledExecutorService ticker;
+
+    private TaskDueScheduler(Clock clock, long tickMillis, long reminderLeadMillis, long escalationDelayMillis,
+                             TaskDueListener listener) {
+        this.clock = clock;
+        this.listener = listener;
+        this.tickMillis = tickMillis;
+        this.originMillis = clock.millis();
+        this.reminderLeadMillis = reminderLeadMillis;
+        this.escalationDelayMillis = escalationDelayMillis;
+        this.wheels = new Slot[LEVELS][WHEEL_SIZE];
+        for (Slot[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Slot();
+            }
+        }
+        this.timers = new HashMap<>();
+        this.firedEvents = new LongAdder();
+        this.failedCallbacks = new LongAdder();
+    }
+
+    public static TaskDueScheduler create(Duration tick, Duration reminderLead, Duration escalationDelay,
+                                          TaskDueListener listener) {
+        return create(Clock.systemDefaultZone(), tick, reminderLead, escalationDelay, listener);
+    }
+
+    /**
+     * Creates a scheduler that is already subscribed to task events; it does not advance
+     * until {@link #start()} or {@link #advance()} is called.
+     *
+     * @param clock           source of the current time; due dates are read in its zone
+     * @param tick            resolution of the wheel, at least one millisecond
+     * @param reminderLead    how long before the due date the reminder fires, or zero for none
+     * @param escalationDelay how long after the due date the escalation fires, or zero for none
+     */
+    public static TaskDueScheduler create(Clock clock, Duration tick, Duration reminderLead, Duration escalationDelay,
+                                          TaskDueListener listener) {
+        Objects.requireNonNull(clock, "Clock cannot be null");
+        Objects.requireNonNull(tick, "Tick cannot be null");
+        Objects.requireNonNull(reminderLead, "Reminder lead cannot be null");
+        Objects.requireNonNull(escalationDelay, "Escalation delay cannot be null");
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond");
+        }
+        if (reminderLead.isNegative() || escalationDelay.isNegative()) {
+            throw new IllegalArgumentException("Reminder lead and escalation delay cannot be negative");
+        }
+        TaskDueScheduler scheduler = new TaskDueScheduler(clock, tick.toMillis(),
+                reminderLead.toMillis(), escalationDelay.toMillis(), listener);
+        TaskEvents.register(scheduler);
+        return scheduler;
+    }
+
+    /**
+     * Advances the wheel once per tick on a daemon thread until the scheduler is closed.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            throw new IllegalStateException("Scheduler is already started");
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-due-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds existing tasks; closed tasks and tasks already scheduled are left as they are.
+     */
+    public void index(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        for (Task task : tasks) {
+            refresh(Objects.requireNonNull(task, "Task cannot be null"), false);
+        }
+    }
+
+    /**
+     * Fires every event whose time has come, on the calling thread.
+     * <p>
+     * A callback that throws does not stop the others; it is counted in {@link #getFailedCallbacks()}.
+     *
+     * @return number of events fired
+     */
+    public int advance() {
+        long target = Math.floorDiv(clock.millis() - originMillis, tickMillis);
+        List<Event> events;
+        synchronized (this) {
+            events = expire(target);
+        }
+        int fired = 0;
+        for (Event event : events) {
+            // Closed after its timer expired; the cancellation is on its way
+            if (isClosed(event.task.getStatus())) {
+                continue;
+            }
+            try {
+                switch (event.stage) {
+                    case REMINDER:
+                        listener.onReminder(event.task);
+                        break;
+                    case OVERDUE:
+                        listener.onOverdue(event.task);
+                        break;
+                    case ESCALATION:
+                        listener.onEscalation(event.task);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown stage: " + event.stage);
+                }
+            } catch (RuntimeException e) {
+                failedCallbacks.increment();
+            }
+            fired++;
+        }
+        firedEvents.add(fired);
+        return fired;
+    }
+
+    // Listener callbacks
+    @Override
+    public void onCreated(Task task) {
+        refresh(task, false);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, Task.TaskStatus oldStatus) {
+        refresh(task, false);
+    }
+
+    @Override
+    public void onDueDateChanged(Task task, LocalDateTime oldDueDate) {
+        refresh(task, true);
+    }
+
+    // Getters
+    public synchronized int getScheduledCount() { return timers.size(); }
+    public long getFiredEvents() { return firedEvents.sum(); }
+    public long getFailedCallbacks() { return failedCallbacks.sum(); }
+
+    @Override
+    public void close() {
+        TaskEvents.unregister(this);
+        ScheduledExecutorService running;
+        synchronized (this) {
+            running = ticker;
+            ticker = null;
+        }
+        if (running != null) {
+            running.shutdownNow();
+        }
+    }
+
+    // Private helper methods
+    private synchronized void refresh(Task task, boolean dueDateChanged) {
+        Timer timer = timers.get(task);
+        // Reads the current status rather than the event's, so late events cannot revive a closed task
+        if (isClosed(task.getStatus())) {
+            if (timer != null) {
+                unlink(timer);
+                timers.remove(task);
+            }
+            return;
+        }
+        if (timer != null && !dueDateChanged) {
+            return;
+        }
+        if (timer == null) {
+            timer = new Timer(task);
+            timers.put(task, timer);
+        } else {
+            unlink(timer);
+        }
+        long dueMillis = task.getDueDate().atZone(clock.getZone()).toInstant().toEpochMilli();
+        timer.dueMillis = dueMillis;
+        if (reminderLeadMillis > 0 && clock.millis() < dueMillis) {
+            timer.stage = Stage.REMINDER;
+            timer.deadline = ceilTick(dueMillis - reminderLeadMillis);
+        } else {
+            timer.stage = Stage.OVERDUE;
+            timer.deadline = ceilTick(dueMillis);
+        }
+        insert(timer, currentTick + 1);
+    }
+
+    // Runs the wheel up to the target tick and moves each expired timer to its next stage
+    private List<Event> expire(long target) {
+        List<Event> events = new ArrayList<>();
+        while (currentTick < target) {
+            if (timers.isEmpty()) {
+                currentTick = target;
+                break;
+            }
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                    cascade(wheels[level][(int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)]);
+                }
+            }
+            Slot slot = wheels[0][(int) (currentTick & WHEEL_MASK)];
+            Timer timer = slot.head;
+            slot.head = null;
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                timer.slot = null;
+                events.add(new Event(timer.task, timer.stage));
+                if (!nextStage(timer)) {
+                    timers.remove(timer.task);
+                }
+                timer = next;
+            }
+        }
+        return events;
+    }
+
+    private boolean nextStage(Timer timer) {
+        if (timer.stage == Stage.REMINDER) {
+            timer.stage = Stage.OVERDUE;
+            timer.deadline = ceilTick(timer.dueMillis);
+        } else if (timer.stage == Stage.OVERDUE && escalationDelayMillis > 0) {
+            timer.stage = Stage.ESCALATION;
+            timer.deadline = ceilTick(timer.dueMillis + escalationDelayMillis);
+        } else {
+            return false;
+        }
+        insert(timer, currentTick + 1);
+        return true;
+    }
+
+    // Re-places the timers of a higher-level slot now that the wheel has reached it
+    private void cascade(Slot slot) {
+        Timer timer = slot.head;
+        slot.head = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            timer.slot = null;
+            insert(timer, currentTick);
+            timer = next;
+        }
+    }
+
+    // A timer sits on the lowest level whose slot width keeps it apart from the current tick
+    private void insert(Timer timer, long earliest) {
+        long deadline = Math.max(timer.deadline, earliest);
+        int level = 0;
+        while (level < LEVELS - 1
+                && (deadline >>> (WHEEL_BITS * (level + 1))) != (currentTick >>> (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        long index = deadline >>> (WHEEL_BITS * level);
+        long currentIndex = currentTick >>> (WHEEL_BITS * level);
+        if (index - currentIndex >= WHEEL_SIZE) {
+            // Beyond the top level: park in its last slot and place again when that slot comes round
+            index = currentIndex - 1;
+        }
+        Slot slot = wheels[level][(int) (index & WHEEL_MASK)];
+        timer.slot = slot;
+        timer.next = slot.head;
+        if (slot.head != null) {
+            slot.head.prev = timer;
+        }
+        slot.head = timer;
+    }
+
+    private void unlink(Timer timer) {
+        Slot slot = timer.slot;
+        if (slot == null) {
+            return;
+        }
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slot.head = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.slot = null;
+    }
+
+    // First tick at or after the given time
+    private long ceilTick(long millis) {
+        return -Math.floorDiv(originMillis - millis, tickMillis);
+    }
+
+    private static boolean isClosed(Task.TaskStatus status) {
+        return status == Task.TaskStatus.COMPLETED || status == Task.TaskStatus.CANCELLED;
+    }
+
+    /**
+     * Head of one wheel slot's doubly linked list of timers.
+     */
+    private static final class Slot {
+        private Timer head;
+    }
+
+    /**
+     * Pending event of one task; guarded by the scheduler's monitor.
+     */
+    private static final class Timer {
+        private final Task task;
+        private long dueMillis;
+        private long deadline;
+        private Stage stage;
+        private Slot slot;
+        private Timer prev;
+        private Timer next;
+
+        Timer(Task task) {
+            this.task = task;
+        }
+    }
+
+    private static final class Event {
+        private final Task task;
+        private final Stage stage;
+
+        Event(Task task, Stage stage) {
+            this.task = task;
+            this.stage = stage;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package company.projects;
+
+import company.empoloyees.Employee;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide registry of {@link TaskListener}s that {@link Task} reports its changes to.
+ */
+public final class TaskEvents {
+    private static final List<TaskListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private TaskEvents() {
+    }
+
+    public static void register(TaskListener listener) {
+        LISTENERS.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    public static void unregister(TaskListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    // Package-private dispatch used by Task
+    static void fireCreated(Task task) {
+        for (TaskListener listener : LISTENERS) {
+            listener.onCreated(task);
+        }
+    }
+
+    static void fireStatusChanged(Task task, Task.TaskStatus oldStatus) {
+        for (TaskListener listener : LISTENERS) {
+            listener.onStatusChanged(task, oldStatus);
+        }
+    }
+
+    static void firePriorityChanged(Task task, Task.TaskPriority oldPriority) {
+        for (TaskListener listener : LISTENERS) {
+            listener.onPriorityChanged(task, oldPriority);
+        }
+    }
+
+    static void fireDueDateChanged(Task task, LocalDateTime oldDueDate) {
+        for (TaskListener listener : LISTENERS) {
+            listener.onDueDateChanged(task, oldDueDate);
+        }
+    }
+
+    static void fireReassigned(Task task, Employee oldAssignee) {
+        for (TaskListener listener : LISTENERS) {
+            listener.onReassigned(task, oldAssignee);
+        }
+    }
+
+    static void fireEstimateChanged(Task task, double oldEstimatedHours) {
+        for (TaskListener listener : LISTENERS) {
+            listener.onEstimateChanged(task, oldEstimatedHours);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package company.projects;
+
+import company.empoloyees.Employee;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Index of tasks by status and priority, each bucket ordered by due date.
+ * <p>
+ * Buckets are {@link EnumMap}s of concurrent skip lists keyed by {@code (dueDate, taskId)},
+ * so a due-date range or the earliest N tasks of one bucket are found in O(log n), and a
+ * query over several statuses and priorities merges at most 20 buckets. A second index
+ * holds the tasks assigned to each employee.
+ * <p>
+ * The index listens to {@link TaskEvents}: on every status, priority, due date or assignee
+ * change the task is moved to where its current state belongs, which also keeps the index
+ * right when changes made on different threads are reported out of order. Tasks that existed
+ * before the index was created, such as ones read back from a snapshot, are added with
+ * {@link #index(Collection)}.
+ * <p>
+ * Queries are weakly consistent: a task that moves while a query runs may be missed or
+ * seen in its old bucket.
+ */
+public final class TaskIndex implements TaskListener, AutoCloseable {
+    /**
+     * Every status except {@code COMPLETED} and {@code CANCELLED}.
+     */
+    public static final Set<Task.TaskStatus> OPEN_STATUSES =
+            EnumSet.of(Task.TaskStatus.NEW, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.ON_HOLD);
+
+    private final Map<Task.TaskStatus, Map<Task.TaskPriority, Bucket>> buckets;
+    private final Map<Task, Slot> slots;
+    private final Map<Employee, Set<Task>> byAssignee;
+    private final AtomicLong sequence;
+
+    private TaskIndex() {
+        this.buckets = new EnumMap<>(Task.TaskStatus.class);
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            Map<Task.TaskPriority, Bucket> byPriority = new EnumMap<>(Task.TaskPriority.class);
+            for (Task.TaskPriority priority : Task.TaskPriority.values()) {
+                byPriority.put(priority, new Bucket());
+            }
+            buckets.put(status, byPriority);
+        }
+        this.slots = new ConcurrentHashMap<>();
+        this.byAssignee = new ConcurrentHashMap<>();
+        this.sequence = new AtomicLong();
+    }
+
+    /**
+     * Creates an empty index that is already subscribed to task events.
+     */
+    public static TaskIndex create() {
+        TaskIndex index = new TaskIndex();
+        TaskEvents.register(index);
+        return index;
+    }
+
+    /**
+     * Adds existing tasks; tasks already in the index are left as they are.
+     */
+    public void index(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        for (Task task : tasks) {
+            add(Objects.requireNonNull(task, "Task cannot be null"));
+        }
+    }
+
+    public void remove(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        Slot slot = slots.remove(task);
+        if (slot != null) {
+            synchronized (slot) {
+                bucket(slot.status, slot.priority).remove(slot.key);
+                unassign(slot.assignee, task);
+                slot.removed = true;
+            }
+        }
+    }
+
+    // Listener callbacks
+    @Override
+    public void onCreated(Task task) {
+        add(task);
+    }
+
+    @Override
+    public void onStatusChanged(Task task, Task.TaskStatus oldStatus) {
+        refresh(task);
+    }
+
+    @Override
+    public void onPriorityChanged(Task task, Task.TaskPriority oldPriority) {
+        refresh(task);
+    }
+
+    @Override
+    public void onDueDateChanged(Task task, LocalDateTime oldDueDate) {
+        refresh(task);
+    }
+
+    @Override
+    public void onReassigned(Task task, Employee oldAssignee) {
+        refresh(task);
+    }
+
+    /**
+     * Returns up to {@code limit} tasks with one of the given statuses and priorities whose
+     * due date is in {@code [from, to)}, earliest due first. Either bound may be {@code null}
+     * for an open range.
+     */
+    public List<Task> findDue(Set<Task.TaskStatus> statuses, Set<Task.TaskPriority> priorities,
+                              LocalDateTime from, LocalDateTime to, int limit) {
+        Objects.requireNonNull(statuses, "Statuses cannot be null");
+        Objects.requireNonNull(priorities, "Priorities cannot be null");
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new IllegalArgumentException("End of range cannot be before its start");
+        }
+        Key fromKey = from != null ? Key.lowest(from) : null;
+        Key toKey = to != null ? Key.lowest(to) : null;
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>();
+        for (Task.TaskStatus status : statuses) {
+            for (Task.TaskPriority priority : priorities) {
+                NavigableMap<Key, Task> range = bucket(status, priority).range(fromKey, toKey);
+                Cursor cursor = new Cursor(range.entrySet().iterator());
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+            }
+        }
+        List<Task> result = new ArrayList<>(Math.min(limit, 1024));
+        while (result.size() < limit && !cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            result.add(cursor.task);
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code limit} tasks with one of the given statuses and priorities that are due first.
+     */
+    public List<Task> findEarliestDue(Set<Task.TaskStatus> statuses, Set<Task.TaskPriority> priorities, int limit) {
+        return findDue(statuses, priorities, null, null, limit);
+    }
+
+    /**
+     * Returns the tasks assigned to the employee that have one of the given statuses.
+     */
+    public List<Task> getAssignedTasks(Employee employee, Set<Task.TaskStatus> statuses) {
+        Objects.requireNonNull(employee, "Employee cannot be null");
+        Objects.requireNonNull(statuses, "Statuses cannot be null");
+        List<Task> result = new ArrayList<>();
+        for (Task task : byAssignee.getOrDefault(employee, Collections.emptySet())) {
+            if (statuses.contains(task.getStatus())) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    public int getCount(Task.TaskStatus status, Task.TaskPriority priority) {
+        Objects.requireNonNull(status, "Status cannot be null");
+        Objects.requireNonNull(priority, "Priority cannot be null");
+        return bucket(status, priority).size.get();
+    }
+
+    public int getCount(Set<Task.TaskStatus> statuses, Set<Task.TaskPriority> priorities) {
+        int count = 0;
+        for (Task.TaskStatus status : statuses) {
+            for (Task.TaskPriority priority : priorities) {
+                count += getCount(status, priority);
+            }
+        }
+        return count;
+    }
+
+    public int size() { return slots.size(); }
+
+    @Override
+    public void close() {
+        TaskEvents.unregister(this);
+    }
+
+    // Private helper methods
+    private void add(Task task) {
+        Slot slot = new Slot();
+        // Filled in before it is published, so a concurrent refresh never sees an empty slot
+        synchronized (slot) {
+            if (slots.putIfAbsent(task, slot) != null) {
+                refresh(task);
+                return;
+            }
+            slot.status = task.getStatus();
+            slot.priority = task.getPriority();
+            slot.assignee = task.getAssignedEmployee();
+            slot.key = new Key(task.getDueDate(), task.getTaskId(), sequence.getAndIncrement());
+            bucket(slot.status, slot.priority).put(slot.key, task);
+            assign(slot.assignee, task);
+        }
+    }
+
+    // Moves the task to the bucket for its current state, whatever the event said changed
+    private void refresh(Task task) {
+        Slot slot = slots.get(task);
+        if (slot == null) {
+            return;
+        }
+        synchronized (slot) {
+            if (slot.removed) {
+                return;
+            }
+            Employee assignee = task.getAssignedEmployee();
+            if (assignee != slot.assignee) {
+                unassign(slot.assignee, task);
+                slot.assignee = assignee;
+                assign(assignee, task);
+            }
+            Task.TaskStatus status = task.getStatus();
+            Task.TaskPriority priority = task.getPriority();
+            LocalDateTime dueDate = task.getDueDate();
+            if (status == slot.status && priority == slot.priority && Objects.equals(dueDate, slot.key.dueDate)) {
+                return;
+            }
+            bucket(slot.status, slot.priority).remove(slot.key);
+            slot.status = status;
+            slot.priority = priority;
+            slot.key = new Key(dueDate, slot.key.taskId, slot.key.sequence);
+            bucket(status, priority).put(slot.key, task);
+        }
+    }
+
+    private void assign(Employee assignee, Task task) {
+        if (assignee != null) {
+            byAssignee.computeIfAbsent(assignee, employee -> ConcurrentHashMap.newKeySet()).add(task);
+        }
+    }
+
+    private void unassign(Employee assignee, Task task) {
+        if (assignee != null) {
+            Set<Task> tasks = byAssignee.get(assignee);
+            if (tasks != null) {
+                tasks.remove(task);
+            }
+        }
+    }
+
+    private Bucket bucket(Task.TaskStatus status, Task.TaskPriority priority) {
+        return buckets.get(status).get(priority);
+    }
+
+    /**
+     * Position of a task in the index; guarded by its own monitor.
+     */
+    private static final class Slot {
+        private Task.TaskStatus status;
+        private Task.TaskPriority priority;
+        private Employee assignee;
+        private Key key;
+        private boolean removed;
+    }
+
+    /**
+     * Tasks of one status and priority ordered by due date; the size is kept apart because
+     * counting a skip list is linear.
+     */
+    private static final class Bucket {
+        private final ConcurrentSkipListMap<Key, Task> tasks = new ConcurrentSkipListMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        void put(Key key, Task task) {
+            tasks.put(key, task);
+            size.incrementAndGet();
+        }
+
+        void remove(Key key) {
+            if (tasks.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+
+        NavigableMap<Key, Task> range(Key from, Key to) {
+            if (from != null && to != null) {
+                return tasks.subMap(from, true, to, false);
+            }
+            if (from != null) {
+                return tasks.tailMap(from, true);
+            }
+            return to != null ? tasks.headMap(to, false) : tasks;
+        }
+    }
+
+    /**
+     * Sort key of a task: due date (tasks without one last), then task ID, then the order
+     * the index first saw the task in, so tasks with equal IDs never collide.
+     */
+    private static final class Key implements Comparable<Key> {
+        private final LocalDateTime dueDate;
+        private final String taskId;
+        private final long sequence;
+
+        Key(LocalDateTime dueDate, String taskId, long sequence) {
+            this.dueDate = dueDate;
+            this.taskId = taskId;
+            this.sequence = sequence;
+        }
+
+        // Sorts before every task due at the given time
+        static Key lowest(LocalDateTime dueDate) {
+            return new Key(dueDate, "", Long.MIN_VALUE);
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            if (dueDate == null || other.dueDate == null) {
+                if (dueDate != other.dueDate) {
+                    return dueDate == null ? 1 : -1;
+                }
+            } else {
+                int byDueDate = dueDate.compareTo(other.dueDate);
+                if (byDueDate != 0) {
+                    return byDueDate;
+                }
+            }
+            int byId = taskId.compareTo(other.taskId);
+            return byId != 0 ? byId : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Head of one bucket's range during a merge.
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+        private final Iterator<Map.Entry<Key, Task>> entries;
+        private Key key;
+        private Task task;
+
+        Cursor(Iterator<Map.Entry<Key, Task>> entries) {
+            this.entries = entries;
+        }
+
+        boolean advance() {
+            if (!entries.hasNext()) {
+                return false;
+            }
+            Map.Entry<Key, Task> entry = entries.next();
+            key = entry.getKey();
+            task = entry.getValue();
+            return true;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return key.compareTo(other.key);
+        }
+    }
+}
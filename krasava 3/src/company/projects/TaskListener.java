@@ -0,0 +1,29 @@
+package company.projects;
+
+import company.empoloyees.Employee;
+
+import java.time.LocalDateTime;
+
+/**
+ * Receives task change events. Callbacks run synchronously on the thread that changed
+ * the task, after the change has been applied; each one carries the previous value.
+ */
+public interface TaskListener {
+    default void onCreated(Task task) {
+    }
+
+    default void onStatusChanged(Task task, Task.TaskStatus oldStatus) {
+    }
+
+    default void onPriorityChanged(Task task, Task.TaskPriority oldPriority) {
+    }
+
+    default void onDueDateChanged(Task task, LocalDateTime oldDueDate) {
+    }
+
+    default void onReassigned(Task task, Employee oldAssignee) {
+    }
+
+    default void onEstimateChanged(Task task, double oldEstimatedHours) {
+    }
+}
@@ -1,8 +1,14 @@
 package company.projects;
 
 import company.empoloyees.Employee;
+import company.monitoring.Metrics;
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class TimeEntry {
@@ -13,7 +19,9 @@ public class TimeEntry {
     private final LocalDateTime startTime;
     private LocalDateTime endTime;
     private String description;
-    private boolean isApproved;
+    private volatile boolean isApproved;
+    // Bumped on every approval and rejection; guarded by this entry's monitor
+    private int approvalVersion;
     private final LocalDateTime createdAt;
 
     public TimeEntry(String timeEntryId, Employee employee, Project project, 
@@ -27,24 +35,161 @@ public class TimeEntry {
         this.startTime = startTime;
         this.isApproved = false;
         this.createdAt = LocalDateTime.now();
+        if (task != null) {
+            task.addTimeEntry(this);
+        }
+        TimeEntryEvents.fireCreated(this);
+    }
+
+    /**
+     * Creates an entry that may already be stopped. Start and end time are both validated,
+     * and listeners may veto the end time, before the entry is linked to its task, so an
+     * invalid submission leaves no trace.
+     */
+    TimeEntry(String timeEntryId, Employee employee, Project project, Task task,
+              LocalDateTime startTime, LocalDateTime endTime, String description) {
+        validateTimeEntryInput(timeEntryId, employee, project, task, startTime);
+        if (endTime != null) {
+            validateEndTime(startTime, endTime);
+        }
+
+        this.timeEntryId = timeEntryId;
+        this.employee = employee;
+        this.project = project;
+        this.task = task;
+        this.startTime = startTime;
+        this.description = description;
+        this.isApproved = false;
+        this.createdAt = LocalDateTime.now();
+        if (endTime != null) {
+            TimeEntryEvents.fireStopping(this, endTime);
+            this.endTime = endTime;
+        }
+        if (task != null) {
+            task.addTimeEntry(this);
+        }
+        TimeEntryEvents.fireCreated(this);
+        if (endTime != null) {
+            TimeEntryEvents.fireStopped(this);
+        }
+    }
+
+    // Trusted constructor for values read back from a snapshot; fires no events
+    TimeEntry(String timeEntryId, Employee employee, Project project, Task task, LocalDateTime startTime,
+              LocalDateTime endTime, String description, boolean isApproved, LocalDateTime createdAt) {
+        this.timeEntryId = timeEntryId;
+        this.employee = employee;
+        this.project = project;
+        this.task = task;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.description = description;
+        this.isApproved = isApproved;
+        this.createdAt = createdAt;
+        if (task != null) {
+            task.addTimeEntry(this);
+        }
     }
 
     // Package-private methods
-    void approve() {
-        if (endTime == null) {
-            throw new IllegalStateException("Cannot approve time entry without end time");
+    synchronized void approve() {
+        long start = Metrics.start();
+        try {
+            if (endTime == null) {
+                throw new IllegalStateException("Cannot approve time entry without end time");
+            }
+
+            if (!isApproved) {
+                this.isApproved = true;
+                approvalVersion++;
+                long minutes = minutesToLog(getDuration());
+                if (task != null && minutes > 0) {
+                    task.logMinutes(minutes);
+                }
+                TimeEntryEvents.fireApproved(this);
+            }
+        } finally {
+            Metrics.TIME_ENTRY_APPROVE.record(start);
         }
-        
-        if (!isApproved) {
-            this.isApproved = true;
-            if (task != null) {
-                task.logWork(getDuration().toHours());
+    }
+
+    /**
+     * Approves many entries with one hour update per task and per project instead of one per entry.
+     * Entries without an end time are rejected and reported in the results, which follow the input order.
+     * <p>
+     * Approved events are fired after the hours are applied, each under its entry's lock. An entry
+     * rejected or approved again in the meantime has already fired its own events, so its batch
+     * approval event is skipped and listeners never see an approval after the rejection that undid it.
+     */
+    static List<ApprovalResult> approveAll(Collection<TimeEntry> entries) {
+        Objects.requireNonNull(entries, "Entries cannot be null");
+        for (TimeEntry entry : entries) {
+            Objects.requireNonNull(entry, "Time entry cannot be null");
+        }
+        long start = Metrics.start();
+        try {
+            List<ApprovalResult> results = new ArrayList<>(entries.size());
+            List<TimeEntry> approved = new ArrayList<>(entries.size());
+            List<Integer> approvedVersions = new ArrayList<>(entries.size());
+            Map<Task, long[]> minutesByTask = new HashMap<>();
+            for (TimeEntry entry : entries) {
+                synchronized (entry) {
+                    if (entry.endTime == null) {
+                        results.add(new ApprovalResult(entry, ApprovalResult.Status.REJECTED,
+                                "Cannot approve time entry without end time"));
+                    } else if (entry.isApproved) {
+                        results.add(new ApprovalResult(entry, ApprovalResult.Status.ALREADY_APPROVED, null));
+                    } else {
+                        entry.isApproved = true;
+                        entry.approvalVersion++;
+                        long minutes = minutesToLog(entry.getDuration());
+                        if (entry.task != null && minutes > 0) {
+                            minutesByTask.computeIfAbsent(entry.task, t -> new long[1])[0] += minutes;
+                        }
+                        results.add(new ApprovalResult(entry, ApprovalResult.Status.APPROVED, null));
+                        approved.add(entry);
+                        approvedVersions.add(entry.approvalVersion);
+                    }
+                }
+            }
+
+            Map<Project, long[]> minutesByProject = new HashMap<>();
+            for (Map.Entry<Task, long[]> e : minutesByTask.entrySet()) {
+                e.getKey().recordMinutes(e.getValue()[0]);
+                minutesByProject.computeIfAbsent(e.getKey().getProject(), p -> new long[1])[0] += e.getValue()[0];
+            }
+            for (Map.Entry<Project, long[]> e : minutesByProject.entrySet()) {
+                e.getKey().updateActualMinutes(e.getValue()[0]);
             }
+            for (int i = 0; i < approved.size(); i++) {
+                TimeEntry entry = approved.get(i);
+                synchronized (entry) {
+                    if (entry.approvalVersion == approvedVersions.get(i)) {
+                        TimeEntryEvents.fireApproved(entry);
+                    }
+                }
+            }
+            return results;
+        } finally {
+            Metrics.TIME_ENTRY_APPROVE_ALL.record(start);
         }
     }
 
-    void reject() {
+    synchronized void reject() {
+        if (isApproved) {
+            long minutes = minutesToLog(getDuration());
+            if (task != null && minutes > 0) {
+                task.unlogMinutes(minutes);
+            }
+        }
         this.isApproved = false;
+        approvalVersion++;
+        TimeEntryEvents.fireRejected(this);
+    }
+
+    // Whole minutes credited to the task when an entry of the given duration is approved
+    static long minutesToLog(Duration duration) {
+        return duration.toMinutes();
     }
 
     // Public methods for time entry information
@@ -67,10 +212,12 @@ public class TimeEntry {
     }
 
     // Public methods for updating time entry
-    public void stopWork(LocalDateTime endTime) {
-        validateEndTime(endTime);
+    public synchronized void stopWork(LocalDateTime endTime) {
+        validateEndTime(startTime, endTime);
         if (this.endTime == null) {
+            TimeEntryEvents.fireStopping(this, endTime);
             this.endTime = endTime;
+            TimeEntryEvents.fireStopped(this);
         } else {
             throw new IllegalStateException("Time entry has already been stopped");
         }
@@ -99,7 +246,7 @@ public class TimeEntry {
         }
     }
 
-    private void validateEndTime(LocalDateTime endTime) {
+    private static void validateEndTime(LocalDateTime startTime, LocalDateTime endTime) {
         Objects.requireNonNull(endTime, "End time cannot be null");
         
         if (endTime.isBefore(startTime)) {
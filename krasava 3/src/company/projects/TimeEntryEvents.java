@@ -0,0 +1,55 @@
+package company.projects;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide registry of {@link TimeEntryListener}s that {@link TimeEntry} reports its changes to.
+ */
+public final class TimeEntryEvents {
+    private static final List<TimeEntryListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private TimeEntryEvents() {
+    }
+
+    public static void register(TimeEntryListener listener) {
+        LISTENERS.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    public static void unregister(TimeEntryListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    // Package-private dispatch used by TimeEntry
+    static void fireCreated(TimeEntry entry) {
+        for (TimeEntryListener listener : LISTENERS) {
+            listener.onCreated(entry);
+        }
+    }
+
+    static void fireStopping(TimeEntry entry, LocalDateTime endTime) {
+        for (TimeEntryListener listener : LISTENERS) {
+            listener.onStopping(entry, endTime);
+        }
+    }
+
+    static void fireStopped(TimeEntry entry) {
+        for (TimeEntryListener listener : LISTENERS) {
+            listener.onStopped(entry);
+        }
+    }
+
+    static void fireApproved(TimeEntry entry) {
+        for (TimeEntryListener listener : LISTENERS) {
+            listener.onApproved(entry);
+        }
+    }
+
+    static void fireRejected(TimeEntry entry) {
+        for (TimeEntryListener listener : LISTENERS) {
+            listener.onRejected(entry);
+        }
+    }
+}
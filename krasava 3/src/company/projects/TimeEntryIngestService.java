@@ -0,0 +1,273 @@
+package company.projects;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import company.empoloyees.Employee;
+import company.empoloyees.EmployeeDirectory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local HTTP endpoint that accepts batches of time entries.
+ * <p>
+ * {@code POST /time-entries} takes one entry per line with tab-separated fields
+ * {@code timeEntryId, employeeId, projectId, taskId, startTime, endTime, description}.
+ * Task, end time and description may be empty; times are ISO local date-times. Each line is
+ * created through the validating {@link TimeEntry} constructor, so it is linked to its task
+ * and reported to {@link TimeEntryEvents} like an entry created in-process. Lines are accepted
+ * or rejected individually; the response lists the rejected line numbers with the reason.
+ * <p>
+ * Requests run one per virtual thread when the JVM supports it, otherwise on a fixed pool
+ * with one thread per allowed request. At most {@code maxInFlight} requests are handled at
+ * a time, counting requests still waiting for a thread; any beyond that are answered
+ * immediately with 503 and a {@code Retry-After} header by a single separate thread, so they
+ * never queue behind admitted requests.
+ */
+public final class TimeEntryIngestService implements AutoCloseable {
+    public static final String PATH = "/time-entries";
+    static final int MAX_BODY_BYTES = 1024 * 1024;
+    private static final int FIELD_COUNT = 7;
+    private static final int BACKLOG = 4096;
+    private static final ThreadLocal<Boolean> ADMITTED = new ThreadLocal<>();
+
+    private final EmployeeDirectory employees;
+    private final Map<String, Project> projectsById;
+    private final Map<String, Task> tasksById;
+    private final Semaphore inFlight;
+    private final ExecutorService workers;
+    private final ExecutorService rejections;
+    private final HttpServer server;
+    private final LongAdder acceptedEntries;
+    private final LongAdder rejectedEntries;
+    private final LongAdder rejectedRequests;
+
+    private TimeEntryIngestService(InetSocketAddress address, int maxInFlight, EmployeeDirectory employees,
+                                   Map<String, Project> projectsById, Map<String, Task> tasksById) throws IOException {
+        this.employees = employees;
+        this.projectsById = projectsById;
+        this.tasksById = tasksById;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.workers = newRequestExecutor(maxInFlight);
+        this.rejections = Executors.newSingleThreadExecutor();
+        this.acceptedEntries = new LongAdder();
+        this.rejectedEntries = new LongAdder();
+        this.rejectedRequests = new LongAdder();
+        this.server = HttpServer.create(address, BACKLOG);
+        this.server.createContext(PATH, this::handle);
+        this.server.setExecutor(new AdmissionExecutor());
+    }
+
+    /**
+     * Starts the service on the given address; use port 0 to pick a free port.
+     *
+     * @param maxInFlight number of requests handled at the same time before answering 503
+     */
+    public static TimeEntryIngestService start(InetSocketAddress address, int maxInFlight,
+                                               EmployeeDirectory employees, Map<String, Project> projectsById,
+                                               Map<String, Task> tasksById) throws IOException {
+        Objects.requireNonNull(address, "Address cannot be null");
+        Objects.requireNonNull(employees, "Employee directory cannot be null");
+        Objects.requireNonNull(projectsById, "Projects cannot be null");
+        Objects.requireNonNull(tasksById, "Tasks cannot be null");
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight requests must be positive");
+        }
+        TimeEntryIngestService service = new TimeEntryIngestService(address, maxInFlight,
+                employees, projectsById, tasksById);
+        service.server.start();
+        return service;
+    }
+
+    // Getters
+    public InetSocketAddress getAddress() { return server.getAddress(); }
+    public long getAcceptedEntries() { return acceptedEntries.sum(); }
+    public long getRejectedEntries() { return rejectedEntries.sum(); }
+    public long getRejectedRequests() { return rejectedRequests.sum(); }
+
+    /**
+     * Stops accepting connections, waits up to a second for running requests and shuts the workers down.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        workers.shutdown();
+        rejections.shutdown();
+        try {
+            workers.awaitTermination(1, TimeUnit.SECONDS);
+            rejections.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Private helper methods
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!Boolean.TRUE.equals(ADMITTED.get())) {
+                rejectedRequests.increment();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                respond(exchange, 503, "Too many requests in flight\n");
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                respond(exchange, 405, "Only POST is supported\n");
+                return;
+            }
+            byte[] body = readBody(exchange.getRequestBody());
+            if (body == null) {
+                respond(exchange, 413, "Request body exceeds " + MAX_BODY_BYTES + " bytes\n");
+                return;
+            }
+            respond(exchange, 200, ingest(new String(body, StandardCharsets.UTF_8)));
+        }
+    }
+
+    private String ingest(String body) {
+        StringBuilder errors = new StringBuilder();
+        int accepted = 0;
+        int rejected = 0;
+        int lineNumber = 0;
+        int start = 0;
+        while (start < body.length()) {
+            int end = body.indexOf('\n', start);
+            if (end < 0) {
+                end = body.length();
+            }
+            String line = body.substring(start, end > start && body.charAt(end - 1) == '\r' ? end - 1 : end);
+            start = end + 1;
+            lineNumber++;
+            if (line.isEmpty()) {
+                continue;
+            }
+            String error = ingestLine(line);
+            if (error == null) {
+                accepted++;
+            } else {
+                rejected++;
+                errors.append("line ").append(lineNumber).append(": ").append(error).append('\n');
+            }
+        }
+        acceptedEntries.add(accepted);
+        rejectedEntries.add(rejected);
+        return "accepted=" + accepted + " rejected=" + rejected + '\n' + errors;
+    }
+
+    // Returns null when the entry was created, otherwise the reason it was rejected
+    private String ingestLine(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != FIELD_COUNT) {
+            return "Expected " + FIELD_COUNT + " tab-separated fields but found " + fields.length;
+        }
+        Employee employee = employees.getById(fields[1]);
+        if (employee == null) {
+            return "Unknown employee: " + fields[1];
+        }
+        Project project = projectsById.get(fields[2]);
+        if (project == null) {
+            return "Unknown project: " + fields[2];
+        }
+        Task task = null;
+        if (!fields[3].isEmpty()) {
+            task = tasksById.get(fields[3]);
+            if (task == null) {
+                return "Unknown task: " + fields[3];
+            }
+            if (task.getProject() != project) {
+                return "Task " + fields[3] + " does not belong to project " + fields[2];
+            }
+        }
+        try {
+            LocalDateTime startTime = LocalDateTime.parse(fields[4]);
+            LocalDateTime endTime = fields[5].isEmpty() ? null : LocalDateTime.parse(fields[5]);
+            String description = fields[6].isEmpty() ? null : fields[6];
+            new TimeEntry(fields[0], employee, project, task, startTime, endTime, description);
+            return null;
+        } catch (DateTimeParseException e) {
+            return "Invalid date-time: " + e.getParsedString();
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    // Returns the whole body, or null if it is larger than MAX_BODY_BYTES
+    private static byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (body.size() + read > MAX_BODY_BYTES) {
+                return null;
+            }
+            body.write(buffer, 0, read);
+        }
+        return body.toByteArray();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Uses {@code Executors.newVirtualThreadPerTaskExecutor()} when the running JVM has it,
+     * looked up reflectively so the code still builds for older releases.
+     */
+    private static ExecutorService newRequestExecutor(int fallbackThreads) {
+        try {
+            MethodHandle factory = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return (ExecutorService) factory.invoke();
+        } catch (NoSuchMethodException | IllegalAccessException | UnsupportedOperationException e) {
+            return Executors.newFixedThreadPool(fallbackThreads);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create request executor", e);
+        }
+    }
+
+    /**
+     * Takes an in-flight permit when the server hands over a request, before it waits for a
+     * thread, and tells the handler whether it got one. Requests without a permit go to the
+     * rejection thread instead of the workers.
+     */
+    private final class AdmissionExecutor implements Executor {
+        @Override
+        public void execute(Runnable request) {
+            if (!inFlight.tryAcquire()) {
+                rejections.execute(request);
+                return;
+            }
+            workers.execute(() -> {
+                ADMITTED.set(Boolean.TRUE);
+                try {
+                    request.run();
+                } finally {
+                    ADMITTED.remove();
+                    inFlight.release();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package company.projects;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Durable, append-only log of time entry events backed by memory-mapped segments.
+ * <p>
+ * Every record is {@value #RECORD_SIZE} bytes. String IDs are written once as
+ * definition records and referenced by int afterwards; an ID longer than one record
+ * holds is split over several, and only the last one completes the definition. The type
+ * byte of a record is written last, so a record torn by a crash reads as the end of the log.
+ * The mapped pages are forced to disk every {@code syncEvery} records and on
+ * {@link #sync()} or {@link #close()}.
+ * <p>
+ * Register the journal with {@link TimeEntryEvents#register(TimeEntryListener)} to record
+ * entries as they are created, stopped, approved and rejected. On startup, call
+ * {@link #replay(Map)} before registering it, to restore task and project hours.
+ */
+public final class TimeEntryJournal implements TimeEntryListener, Closeable {
+    static final int RECORD_SIZE = 64;
+    private static final int ID_BYTES_PER_RECORD = RECORD_SIZE - 8;
+    private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+    private static final int NO_REF = -1;
+
+    private static final byte END = 0;
+    private static final byte DEFINE_ID = 1;
+    private static final byte CREATED = 2;
+    private static final byte STOPPED = 3;
+    private static final byte APPROVED = 4;
+    private static final byte REJECTED = 5;
+    private static final byte DEFINE_ID_PART = 6;
+
+    private final FileChannel channel;
+    private final int syncEvery;
+    private final Map<String, Integer> refs;
+    private final Map<Integer, String> ids;
+    private MappedByteBuffer segment;
+    private long segmentStart;
+    private long position;
+    private int unsynced;
+    private long recordCount;
+
+    private TimeEntryJournal(FileChannel channel, int syncEvery) {
+        this.channel = channel;
+        this.syncEvery = syncEvery;
+        this.refs = new HashMap<>();
+        this.ids = new HashMap<>();
+    }
+
+    /**
+     * Opens the journal at the given path, creating it if needed, and positions it after the last complete record.
+     *
+     * @param syncEvery number of records written between two forced flushes
+     */
+    public static TimeEntryJournal open(Path file, int syncEvery) throws IOException {
+        Objects.requireNonNull(file, "Journal file cannot be null");
+        if (syncEvery < 1) {
+            throw new IllegalArgumentException("Sync interval must be positive");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        TimeEntryJournal journal = new TimeEntryJournal(channel, syncEvery);
+        try {
+            journal.scanToEnd();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    // Listener callbacks
+    @Override
+    public synchronized void onCreated(TimeEntry entry) {
+        int entryRef = ref(entry.getTimeEntryId());
+        int employeeRef = ref(entry.getEmployee().getEmployeeId());
+        int projectRef = ref(entry.getProject().getProjectId());
+        int taskRef = entry.getTask() != null ? ref(entry.getTask().getTaskId()) : NO_REF;
+        long offset = reserve();
+        segment.putInt(offset(offset) + 4, entryRef);
+        segment.putInt(offset(offset) + 8, employeeRef);
+        segment.putInt(offset(offset) + 12, projectRef);
+        segment.putInt(offset(offset) + 16, taskRef);
+        segment.putLong(offset(offset) + 24, toSecond(entry.getStartTime()));
+        commit(offset, CREATED);
+    }
+
+    @Override
+    public synchronized void onStopped(TimeEntry entry) {
+        writeEvent(STOPPED, entry, toSecond(entry.getEndTime()));
+    }
+
+    @Override
+    public synchronized void onApproved(TimeEntry entry) {
+        writeEvent(APPROVED, entry, entry.getDuration().getSeconds());
+    }
+
+    @Override
+    public synchronized void onRejected(TimeEntry entry) {
+        writeEvent(REJECTED, entry, 0);
+    }
+
+    /**
+     * Replays every approval and rejection in the log into the matching task and its project.
+     * Entries whose task is not in {@code tasksById} are skipped.
+     *
+     * @return the number of approvals and rejections applied
+     */
+    public synchronized long replay(Map<String, Task> tasksById) {
+        Objects.requireNonNull(tasksById, "Tasks cannot be null");
+        Map<Integer, Integer> taskRefByEntry = new HashMap<>();
+        Map<Integer, Long> approvedMinutesByEntry = new HashMap<>();
+        long applied = 0;
+        MappedByteBuffer buffer = null;
+        for (long offset = 0; offset < position; offset += RECORD_SIZE) {
+            int at = (int) (offset % SEGMENT_SIZE);
+            if (buffer == null || at == 0) {
+                buffer = map(offset - at);
+            }
+            byte type = buffer.get(at);
+            int entryRef = buffer.getInt(at + 4);
+            if (type == CREATED) {
+                taskRefByEntry.put(entryRef, buffer.getInt(at + 16));
+            } else if (type == APPROVED || type == REJECTED) {
+                Integer taskRef = taskRefByEntry.get(entryRef);
+                Task task = taskRef != null && taskRef != NO_REF ? tasksById.get(ids.get(taskRef)) : null;
+                if (task == null) {
+                    continue;
+                }
+                if (type == APPROVED) {
+                    long minutes = TimeEntry.minutesToLog(Duration.ofSeconds(buffer.getLong(at + 24)));
+                    if (minutes > 0) {
+                        task.logMinutes(minutes);
+                        approvedMinutesByEntry.put(entryRef, minutes);
+                    }
+                } else {
+                    Long minutes = approvedMinutesByEntry.remove(entryRef);
+                    if (minutes != null) {
+                        task.unlogMinutes(minutes);
+                    }
+                }
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    public synchronized long getRecordCount() { return recordCount; }
+
+    /**
+     * Forces all written records to disk.
+     */
+    public synchronized void sync() {
+        if (unsynced > 0) {
+            segment.force();
+            unsynced = 0;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        sync();
+        channel.close();
+    }
+
+    // Private helper methods
+    private void writeEvent(byte type, TimeEntry entry, long value) {
+        int entryRef = ref(entry.getTimeEntryId());
+        long offset = reserve();
+        segment.putInt(offset(offset) + 4, entryRef);
+        segment.putLong(offset(offset) + 24, value);
+        commit(offset, type);
+    }
+
+    private int ref(String id) {
+        Integer ref = refs.get(id);
+        if (ref != null) {
+            return ref;
+        }
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        ref = refs.size();
+        int from = 0;
+        while (bytes.length - from > ID_BYTES_PER_RECORD) {
+            writeIdBytes(DEFINE_ID_PART, ref, bytes, from, ID_BYTES_PER_RECORD);
+            from += ID_BYTES_PER_RECORD;
+        }
+        writeIdBytes(DEFINE_ID, ref, bytes, from, bytes.length - from);
+        refs.put(id, ref);
+        ids.put(ref, id);
+        return ref;
+    }
+
+    private void writeIdBytes(byte type, int ref, byte[] bytes, int from, int length) {
+        long offset = reserve();
+        segment.put(offset(offset) + 1, (byte) length);
+        segment.putInt(offset(offset) + 4, ref);
+        segment.put(offset(offset) + 8, bytes, from, length);
+        commit(offset, type);
+    }
+
+    private long reserve() {
+        if (segment == null || position - segmentStart >= SEGMENT_SIZE) {
+            if (segment != null) {
+                segment.force();
+                unsynced = 0;
+            }
+            mapSegment(position - position % SEGMENT_SIZE);
+        }
+        long offset = position;
+        position += RECORD_SIZE;
+        return offset;
+    }
+
+    private void commit(long offset, byte type) {
+        segment.put(offset(offset), type);
+        recordCount++;
+        if (++unsynced >= syncEvery) {
+            segment.force();
+            unsynced = 0;
+        }
+    }
+
+    private int offset(long position) {
+        return (int) (position - segmentStart);
+    }
+
+    private void scanToEnd() throws IOException {
+        long size = channel.size();
+        long offset = 0;
+        MappedByteBuffer buffer = null;
+        ByteArrayOutputStream idBytes = new ByteArrayOutputStream();
+        // Offset of the first part of an ID definition that is not complete yet, or -1
+        long partsStart = -1;
+        while (offset + RECORD_SIZE <= size) {
+            int at = (int) (offset % SEGMENT_SIZE);
+            if (buffer == null || at == 0) {
+                buffer = map(offset - at);
+            }
+            byte type = buffer.get(at);
+            if (type == END) {
+                break;
+            }
+            if (type == DEFINE_ID || type == DEFINE_ID_PART) {
+                byte[] bytes = new byte[buffer.get(at + 1)];
+                buffer.get(at + 8, bytes);
+                idBytes.write(bytes, 0, bytes.length);
+                if (type == DEFINE_ID_PART) {
+                    partsStart = partsStart < 0 ? offset : partsStart;
+                } else {
+                    String id = idBytes.toString(StandardCharsets.UTF_8);
+                    int ref = buffer.getInt(at + 4);
+                    refs.put(id, ref);
+                    ids.put(ref, id);
+                    idBytes.reset();
+                    partsStart = -1;
+                }
+            }
+            recordCount++;
+            offset += RECORD_SIZE;
+        }
+        if (partsStart >= 0) {
+            // A crash cut an ID definition short; nothing refers to it, so write over its parts
+            recordCount -= (offset - partsStart) / RECORD_SIZE;
+            offset = partsStart;
+        }
+        position = offset;
+    }
+
+    private void mapSegment(long start) {
+        segment = map(start);
+        segmentStart = start;
+    }
+
+    private MappedByteBuffer map(long start) {
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, start, SEGMENT_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map journal segment at " + start, e);
+        }
+    }
+
+    private static long toSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,29 @@
+package company.projects;
+
+import java.time.LocalDateTime;
+
+/**
+ * Receives time entry lifecycle events. Callbacks run synchronously on the thread that
+ * changed the entry, after the change has been applied, except {@link #onStopping}.
+ */
+public interface TimeEntryListener {
+    default void onCreated(TimeEntry entry) {
+    }
+
+    /**
+     * Called before an entry gets its end time, while it is still open. Throwing an
+     * {@link IllegalArgumentException} vetoes the stop; the entry is left unchanged.
+     * For an entry created already stopped this runs before {@link #onCreated}.
+     */
+    default void onStopping(TimeEntry entry, LocalDateTime endTime) {
+    }
+
+    default void onStopped(TimeEntry entry) {
+    }
+
+    default void onApproved(TimeEntry entry) {
+    }
+
+    default void onRejected(TimeEntry entry) {
+    }
+}
@@ -0,0 +1,247 @@
+package company.projects;
+
+import company.empoloyees.Employee;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-employee index of stopped time entries over {@code [startTime, endTime)}, used to keep
+ * an employee from logging two entries for the same period and to answer "what was this
+ * employee working on at a given time".
+ * <p>
+ * Each employee's entries that do not overlap are kept in a tree ordered by start time, so
+ * for a new interval only the entry starting last before its end can conflict, and both the
+ * overlap check and point queries are a single O(log n) lookup. With {@link Policy#REJECT}
+ * the index vetoes a {@link TimeEntry#stopWork} that would overlap; with {@link Policy#FLAG}
+ * the stop goes through and the entry is kept on a separate flagged list instead. Flagged
+ * entries are expected to be rare and are scanned linearly. Running entries are tracked
+ * apart and count as covering every time after their start. Zero-length entries never overlap.
+ * <p>
+ * The index listens to {@link TimeEntryEvents}; entries that existed before it was created,
+ * such as ones read back from a snapshot, are added with {@link #index(Collection)}.
+ */
+public final class TimeEntryOverlapIndex implements TimeEntryListener, AutoCloseable {
+
+    /**
+     * What happens when an entry is stopped with an end time that overlaps another entry.
+     */
+    public enum Policy {
+        REJECT,
+        FLAG
+    }
+
+    private final Policy policy;
+    private final Map<String, Timeline> timelines;
+
+    private TimeEntryOverlapIndex(Policy policy) {
+        this.policy = policy;
+        this.timelines = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates an empty index that is already subscribed to time entry events.
+     */
+    public static TimeEntryOverlapIndex create(Policy policy) {
+        Objects.requireNonNull(policy, "Policy cannot be null");
+        TimeEntryOverlapIndex index = new TimeEntryOverlapIndex(policy);
+        TimeEntryEvents.register(index);
+        return index;
+    }
+
+    /**
+     * Adds existing entries. Overlaps among them are flagged whatever the policy, since they
+     * have already been recorded.
+     */
+    public void index(Collection<TimeEntry> entries) {
+        Objects.requireNonNull(entries, "Time entries cannot be null");
+        for (TimeEntry entry : entries) {
+            Timeline timeline = timeline(entry.getEmployee());
+            synchronized (timeline) {
+                if (!timeline.contains(entry)) {
+                    if (entry.getEndTime() == null) {
+                        timeline.running.add(entry);
+                    } else {
+                        timeline.add(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    // Listener callbacks
+    @Override
+    public void onCreated(TimeEntry entry) {
+        if (entry.getEndTime() == null) {
+            Timeline timeline = timeline(entry.getEmployee());
+            synchronized (timeline) {
+                timeline.running.add(entry);
+            }
+        }
+    }
+
+    @Override
+    public void onStopping(TimeEntry entry, LocalDateTime endTime) {
+        if (policy != Policy.REJECT) {
+            return;
+        }
+        Timeline timeline = timelines.get(entry.getEmployee().getEmployeeId());
+        if (timeline == null) {
+            return;
+        }
+        TimeEntry overlap;
+        synchronized (timeline) {
+            overlap = timeline.findOverlap(entry.getStartTime(), endTime);
+        }
+        if (overlap != null) {
+            throw new IllegalArgumentException("Time entry " + entry.getTimeEntryId()
+                    + " overlaps time entry " + overlap.getTimeEntryId());
+        }
+    }
+
+    // Two stops racing on different threads can both pass onStopping; the later one is flagged here
+    @Override
+    public void onStopped(TimeEntry entry) {
+        Timeline timeline = timeline(entry.getEmployee());
+        synchronized (timeline) {
+            timeline.running.remove(entry);
+            timeline.add(entry);
+        }
+    }
+
+    /**
+     * Returns the entries of the employee that cover the given time: at most one regular
+     * entry, plus any flagged and running ones.
+     */
+    public List<TimeEntry> getEntriesAt(Employee employee, LocalDateTime time) {
+        Objects.requireNonNull(employee, "Employee cannot be null");
+        Objects.requireNonNull(time, "Time cannot be null");
+        List<TimeEntry> result = new ArrayList<>();
+        Timeline timeline = timelines.get(employee.getEmployeeId());
+        if (timeline == null) {
+            return result;
+        }
+        synchronized (timeline) {
+            Map.Entry<LocalDateTime, TimeEntry> floor = timeline.entries.floorEntry(time);
+            if (floor != null && floor.getValue().getEndTime().isAfter(time)) {
+                result.add(floor.getValue());
+            }
+            for (TimeEntry entry : timeline.flagged) {
+                if (covers(entry.getStartTime(), entry.getEndTime(), time)) {
+                    result.add(entry);
+                }
+            }
+            for (TimeEntry entry : timeline.running) {
+                if (!entry.getStartTime().isAfter(time)) {
+                    result.add(entry);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a stopped entry of the employee that overlaps {@code [start, end)}, or {@code null} if there is none.
+     */
+    public TimeEntry findOverlap(Employee employee, LocalDateTime start, LocalDateTime end) {
+        Objects.requireNonNull(employee, "Employee cannot be null");
+        Objects.requireNonNull(start, "Start time cannot be null");
+        Objects.requireNonNull(end, "End time cannot be null");
+        Timeline timeline = timelines.get(employee.getEmployeeId());
+        if (timeline == null) {
+            return null;
+        }
+        synchronized (timeline) {
+            return timeline.findOverlap(start, end);
+        }
+    }
+
+    public List<TimeEntry> getFlaggedEntries(Employee employee) {
+        Objects.requireNonNull(employee, "Employee cannot be null");
+        Timeline timeline = timelines.get(employee.getEmployeeId());
+        if (timeline == null) {
+            return new ArrayList<>();
+        }
+        synchronized (timeline) {
+            return new ArrayList<>(timeline.flagged);
+        }
+    }
+
+    public List<TimeEntry> getFlaggedEntries() {
+        List<TimeEntry> result = new ArrayList<>();
+        for (Timeline timeline : timelines.values()) {
+            synchronized (timeline) {
+                result.addAll(timeline.flagged);
+            }
+        }
+        return result;
+    }
+
+    // Getters
+    public Policy getPolicy() { return policy; }
+
+    @Override
+    public void close() {
+        TimeEntryEvents.unregister(this);
+    }
+
+    // Private helper methods
+    private Timeline timeline(Employee employee) {
+        return timelines.computeIfAbsent(employee.getEmployeeId(), id -> new Timeline());
+    }
+
+    private static boolean covers(LocalDateTime start, LocalDateTime end, LocalDateTime time) {
+        return !start.isAfter(time) && end.isAfter(time);
+    }
+
+    /**
+     * Entries of one employee; guarded by its own monitor.
+     */
+    private static final class Timeline {
+        private final TreeMap<LocalDateTime, TimeEntry> entries = new TreeMap<>();
+        private final List<TimeEntry> flagged = new ArrayList<>();
+        private final Set<TimeEntry> running = new HashSet<>();
+
+        void add(TimeEntry entry) {
+            LocalDateTime start = entry.getStartTime();
+            LocalDateTime end = entry.getEndTime();
+            if (!start.isBefore(end)) {
+                return;
+            }
+            if (findOverlap(start, end) != null) {
+                flagged.add(entry);
+            } else {
+                entries.put(start, entry);
+            }
+        }
+
+        TimeEntry findOverlap(LocalDateTime start, LocalDateTime end) {
+            if (!start.isBefore(end)) {
+                return null;
+            }
+            // Entries in the tree are disjoint, so the one starting last before end ends last too
+            Map.Entry<LocalDateTime, TimeEntry> lower = entries.lowerEntry(end);
+            if (lower != null && lower.getValue().getEndTime().isAfter(start)) {
+                return lower.getValue();
+            }
+            for (TimeEntry entry : flagged) {
+                if (entry.getStartTime().isBefore(end) && entry.getEndTime().isAfter(start)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        boolean contains(TimeEntry entry) {
+            return running.contains(entry) || entries.get(entry.getStartTime()) == entry || flagged.contains(entry);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package company.projects;
+
+import company.empoloyees.Employee;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Column-oriented copy of time entries for analytics.
+ * Employees, projects and tasks are dictionary-encoded to dense ints, start and end
+ * times are stored as epoch seconds and approval is a packed bitset, so period
+ * aggregations run as plain loops over primitive arrays. Rows are read back through
+ * the reusable {@link Row} cursor instead of allocating {@link TimeEntry} objects.
+ * The store is append-only and not thread-safe.
+ */
+public final class TimeEntryStore {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long NO_END = Long.MIN_VALUE;
+    private static final int NO_TASK = -1;
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final Dictionary<Employee> employees;
+    private final Dictionary<Project> projects;
+    private final Dictionary<Task> tasks;
+    private int[] employeeColumn;
+    private int[] projectColumn;
+    private int[] taskColumn;
+    private long[] startColumn;
+    private long[] endColumn;
+    private long[] approvedBits;
+    private int size;
+
+    public TimeEntryStore() {
+        this.employees = new Dictionary<>();
+        this.projects = new Dictionary<>();
+        this.tasks = new Dictionary<>();
+        this.employeeColumn = new int[INITIAL_CAPACITY];
+        this.projectColumn = new int[INITIAL_CAPACITY];
+        this.taskColumn = new int[INITIAL_CAPACITY];
+        this.startColumn = new long[INITIAL_CAPACITY];
+        this.endColumn = new long[INITIAL_CAPACITY];
+        this.approvedBits = new long[INITIAL_CAPACITY >>> 6];
+    }
+
+    /**
+     * Copies an entry into the next row.
+     *
+     * @return the row number
+     */
+    public int append(TimeEntry entry) {
+        Objects.requireNonNull(entry, "Time entry cannot be null");
+        if (size == startColumn.length) {
+            grow();
+        }
+        int row = size++;
+        employeeColumn[row] = employees.encode(entry.getEmployee().getEmployeeId(), entry.getEmployee());
+        projectColumn[row] = projects.encode(entry.getProject().getProjectId(), entry.getProject());
+        taskColumn[row] = entry.getTask() != null ? tasks.encode(entry.getTask().getTaskId(), entry.getTask()) : NO_TASK;
+        startColumn[row] = toSecond(entry.getStartTime());
+        endColumn[row] = entry.getEndTime() != null ? toSecond(entry.getEndTime()) : NO_END;
+        setApproved(row, entry.isApproved());
+        return row;
+    }
+
+    public void setApproved(int row, boolean approved) {
+        Objects.checkIndex(row, size);
+        if (approved) {
+            approvedBits[row >>> 6] |= 1L << row;
+        } else {
+            approvedBits[row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    public int size() { return size; }
+
+    public Row cursor() { return new Row(); }
+
+    // Aggregations over a period; entries are clipped to [from, to) and running entries are skipped
+    public double getProjectHours(String projectId, LocalDateTime from, LocalDateTime to, boolean approvedOnly) {
+        int code = projects.lookup(projectId);
+        return code < 0 ? 0 : sumSeconds(projectColumn, code, toSecond(from), toSecond(to), approvedOnly) / SECONDS_PER_HOUR;
+    }
+
+    public double getEmployeeHours(String employeeId, LocalDateTime from, LocalDateTime to, boolean approvedOnly) {
+        int code = employees.lookup(employeeId);
+        return code < 0 ? 0 : sumSeconds(employeeColumn, code, toSecond(from), toSecond(to), approvedOnly) / SECONDS_PER_HOUR;
+    }
+
+    public Map<String, Double> getHoursByProject(LocalDateTime from, LocalDateTime to, boolean approvedOnly) {
+        return toHours(projects, groupSeconds(projectColumn, projects.size(), toSecond(from), toSecond(to), approvedOnly));
+    }
+
+    public Map<String, Double> getHoursByEmployee(LocalDateTime from, LocalDateTime to, boolean approvedOnly) {
+        return toHours(employees, groupSeconds(employeeColumn, employees.size(), toSecond(from), toSecond(to), approvedOnly));
+    }
+
+    // Private helper methods
+    private long sumSeconds(int[] keyColumn, int code, long from, long to, boolean approvedOnly) {
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            if (keyColumn[row] == code && (!approvedOnly || isApproved(row))) {
+                total += overlap(row, from, to);
+            }
+        }
+        return total;
+    }
+
+    private long[] groupSeconds(int[] keyColumn, int groups, long from, long to, boolean approvedOnly) {
+        long[] totals = new long[groups];
+        for (int row = 0; row < size; row++) {
+            if (!approvedOnly || isApproved(row)) {
+                totals[keyColumn[row]] += overlap(row, from, to);
+            }
+        }
+        return totals;
+    }
+
+    private long overlap(int row, long from, long to) {
+        long end = endColumn[row];
+        if (end == NO_END) {
+            return 0;
+        }
+        long seconds = Math.min(end, to) - Math.max(startColumn[row], from);
+        return seconds > 0 ? seconds : 0;
+    }
+
+    private boolean isApproved(int row) {
+        return (approvedBits[row >>> 6] & (1L << row)) != 0;
+    }
+
+    private static Map<String, Double> toHours(Dictionary<?> dictionary, long[] totals) {
+        Map<String, Double> hours = new TreeMap<>();
+        for (int code = 0; code < totals.length; code++) {
+            if (totals[code] > 0) {
+                hours.put(dictionary.idOf(code), totals[code] / SECONDS_PER_HOUR);
+            }
+        }
+        return Collections.unmodifiableMap(hours);
+    }
+
+    private void grow() {
+        int capacity = startColumn.length * 2;
+        employeeColumn = Arrays.copyOf(employeeColumn, capacity);
+        projectColumn = Arrays.copyOf(projectColumn, capacity);
+        taskColumn = Arrays.copyOf(taskColumn, capacity);
+        startColumn = Arrays.copyOf(startColumn, capacity);
+        endColumn = Arrays.copyOf(endColumn, capacity);
+        approvedBits = Arrays.copyOf(approvedBits, capacity >>> 6);
+    }
+
+    private static long toSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fromSecond(long second) {
+        return LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Read-only view of one row. A single cursor can be moved across rows with {@link #moveTo(int)}.
+     */
+    public final class Row {
+        private int row = -1;
+
+        private Row() {
+        }
+
+        public Row moveTo(int row) {
+            Objects.checkIndex(row, size);
+            this.row = row;
+            return this;
+        }
+
+        public int getRow() { return row; }
+        public Employee getEmployee() { return employees.valueOf(employeeColumn[row]); }
+        public Project getProject() { return projects.valueOf(projectColumn[row]); }
+        public Task getTask() { return taskColumn[row] != NO_TASK ? tasks.valueOf(taskColumn[row]) : null; }
+        public LocalDateTime getStartTime() { return fromSecond(startColumn[row]); }
+        public LocalDateTime getEndTime() { return endColumn[row] != NO_END ? fromSecond(endColumn[row]) : null; }
+        public boolean isApproved() { return TimeEntryStore.this.isApproved(row); }
+
+        public double getHours() {
+            long end = endColumn[row];
+            return end != NO_END ? (end - startColumn[row]) / 60 / 60.0 : 0;
+        }
+    }
+
+    private static final class Dictionary<T> {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<T> values = new ArrayList<>();
+
+        int encode(String id, T value) {
+            Integer code = codes.get(id);
+            if (code == null) {
+                code = ids.size();
+                codes.put(id, code);
+                ids.add(id);
+                values.add(value);
+            }
+            return code;
+        }
+
+        int lookup(String id) {
+            Integer code = codes.get(id);
+            return code != null ? code : -1;
+        }
+
+        int size() { return ids.size(); }
+        String idOf(int code) { return ids.get(code); }
+        T valueOf(int code) { return values.get(code); }
+    }
+}
@@ -0,0 +1,322 @@
+package company.snapshot;
+
+import company.empoloyees.Employee;
+import company.empoloyees.EmployeeCodec;
+import company.empoloyees.HRSpecialist;
+import company.empoloyees.Manager;
+import company.projects.Project;
+import company.projects.ProjectCodec;
+import company.projects.Task;
+import company.projects.TimeEntry;
+import company.structure.Department;
+import company.structure.Position;
+import company.structure.StructureCodec;
+import company.structure.WorkSchedule;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A complete organisation graph that can be saved to and loaded from a compact binary file.
+ * <p>
+ * Creating a snapshot collects everything reachable from the given records: departments with
+ * their managers and rosters, employees with their positions and schedules, projects with
+ * their participants and tasks, and the time entries of those tasks. Each record is written
+ * once and referred to by its dense index, so shared positions and schedules stay shared
+ * after loading.
+ * <p>
+ * Loading does not validate the records again and fires no events; the file is trusted to
+ * have been produced by {@link #write(Path)}.
+ */
+public final class OrgSnapshot {
+    private static final int MAGIC = 0x4F524731; // "ORG1"
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<WorkSchedule> schedules;
+    private final List<Position> positions;
+    private final List<Department> departments;
+    private final List<Employee> employees;
+    private final List<Project> projects;
+    private final List<Task> tasks;
+    private final List<TimeEntry> timeEntries;
+
+    public OrgSnapshot(Collection<Department> departments, Collection<Employee> employees,
+                       Collection<Project> projects, Collection<TimeEntry> timeEntries) {
+        Closure closure = new Closure();
+        for (Department department : Objects.requireNonNull(departments, "Departments cannot be null")) {
+            closure.addDepartment(department);
+        }
+        for (Employee employee : Objects.requireNonNull(employees, "Employees cannot be null")) {
+            closure.addEmployee(employee);
+        }
+        for (Project project : Objects.requireNonNull(projects, "Projects cannot be null")) {
+            closure.addProject(project);
+        }
+        for (TimeEntry entry : Objects.requireNonNull(timeEntries, "Time entries cannot be null")) {
+            closure.addTimeEntry(entry);
+        }
+        this.schedules = Collections.unmodifiableList(closure.schedules);
+        this.positions = Collections.unmodifiableList(closure.positions);
+        this.departments = Collections.unmodifiableList(closure.departments);
+        this.employees = Collections.unmodifiableList(closure.employees);
+        this.projects = Collections.unmodifiableList(closure.projects);
+        this.tasks = Collections.unmodifiableList(closure.tasks);
+        this.timeEntries = Collections.unmodifiableList(closure.timeEntries);
+    }
+
+    private OrgSnapshot(WorkSchedule[] schedules, Position[] positions, Department[] departments,
+                        Employee[] employees, Project[] projects, Task[] tasks, TimeEntry[] timeEntries) {
+        this.schedules = Collections.unmodifiableList(Arrays.asList(schedules));
+        this.positions = Collections.unmodifiableList(Arrays.asList(positions));
+        this.departments = Collections.unmodifiableList(Arrays.asList(departments));
+        this.employees = Collections.unmodifiableList(Arrays.asList(employees));
+        this.projects = Collections.unmodifiableList(Arrays.asList(projects));
+        this.tasks = Collections.unmodifiableList(Arrays.asList(tasks));
+        this.timeEntries = Collections.unmodifiableList(Arrays.asList(timeEntries));
+    }
+
+    // Getters
+    public List<WorkSchedule> getSchedules() { return schedules; }
+    public List<Position> getPositions() { return positions; }
+    public List<Department> getDepartments() { return departments; }
+    public List<Employee> getEmployees() { return employees; }
+    public List<Project> getProjects() { return projects; }
+    public List<Task> getTasks() { return tasks; }
+    public List<TimeEntry> getTimeEntries() { return timeEntries; }
+
+    public void write(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(Objects.requireNonNull(file, "File cannot be null"))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Writes the snapshot to a stream, which is flushed but left open.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE));
+        Map<Object, Integer> ids = new IdentityHashMap<>(
+                (schedules.size() + positions.size() + departments.size() + employees.size()
+                        + projects.size() + tasks.size()) * 2);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        out.writeInt(schedules.size());
+        for (WorkSchedule schedule : schedules) {
+            ids.put(schedule, ids.size());
+            StructureCodec.writeSchedule(out, schedule);
+        }
+        int offset = ids.size();
+        out.writeInt(positions.size());
+        for (Position position : positions) {
+            ids.put(position, ids.size() - offset);
+            StructureCodec.writePosition(out, position);
+        }
+        offset = ids.size();
+        out.writeInt(departments.size());
+        for (Department department : departments) {
+            ids.put(department, ids.size() - offset);
+            StructureCodec.writeDepartment(out, department);
+        }
+        // Employees reference each other only through departments and projects, so all ids are known up front
+        offset = ids.size();
+        for (Employee employee : employees) {
+            ids.put(employee, ids.size() - offset);
+        }
+        out.writeInt(employees.size());
+        for (Employee employee : employees) {
+            EmployeeCodec.write(out, employee, ids::get, ids::get, ids::get);
+        }
+        for (Department department : departments) {
+            StructureCodec.writeMembers(out, department, ids::get);
+        }
+        offset = ids.size();
+        out.writeInt(projects.size());
+        for (Project project : projects) {
+            ids.put(project, ids.size() - offset);
+            ProjectCodec.writeProject(out, project, ids::get);
+        }
+        offset = ids.size();
+        out.writeInt(tasks.size());
+        for (Task task : tasks) {
+            ids.put(task, ids.size() - offset);
+            ProjectCodec.writeTask(out, task, ids::get, ids::get);
+        }
+        out.writeInt(timeEntries.size());
+        for (TimeEntry entry : timeEntries) {
+            ProjectCodec.writeTimeEntry(out, entry, ids::get, ids::get, ids::get);
+        }
+        out.flush();
+    }
+
+    public static OrgSnapshot read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(Objects.requireNonNull(file, "File cannot be null"))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Loads a snapshot written by {@link #write(OutputStream)}. The stream is left open.
+     */
+    public static OrgSnapshot read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream, BUFFER_SIZE));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an organisation snapshot");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+
+        WorkSchedule[] schedules = new WorkSchedule[in.readInt()];
+        for (int i = 0; i < schedules.length; i++) {
+            schedules[i] = StructureCodec.readSchedule(in);
+        }
+        Position[] positions = new Position[in.readInt()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = StructureCodec.readPosition(in);
+        }
+        Department[] departments = new Department[in.readInt()];
+        for (int i = 0; i < departments.length; i++) {
+            departments[i] = StructureCodec.readDepartment(in);
+        }
+        Employee[] employees = new Employee[in.readInt()];
+        for (int i = 0; i < employees.length; i++) {
+            employees[i] = EmployeeCodec.read(in, departments, positions, schedules);
+        }
+        for (Department department : departments) {
+            StructureCodec.readMembers(in, department, employees);
+        }
+        Project[] projects = new Project[in.readInt()];
+        for (int i = 0; i < projects.length; i++) {
+            projects[i] = ProjectCodec.readProject(in, employees);
+        }
+        Task[] tasks = new Task[in.readInt()];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = ProjectCodec.readTask(in, projects, employees);
+        }
+        TimeEntry[] timeEntries = new TimeEntry[in.readInt()];
+        for (int i = 0; i < timeEntries.length; i++) {
+            timeEntries[i] = ProjectCodec.readTimeEntry(in, employees, projects, tasks);
+        }
+        return new OrgSnapshot(schedules, positions, departments, employees, projects, tasks, timeEntries);
+    }
+
+    @Override
+    public String toString() {
+        return "OrgSnapshot{" +
+                "departments=" + departments.size() +
+                ", employees=" + employees.size() +
+                ", projects=" + projects.size() +
+                ", tasks=" + tasks.size() +
+                ", timeEntries=" + timeEntries.size() +
+                '}';
+    }
+
+    /**
+     * Collects every record reachable from the starting points, each exactly once.
+     */
+    private static final class Closure {
+        private final Map<Object, Boolean> seen = new IdentityHashMap<>();
+        private final List<WorkSchedule> schedules = new ArrayList<>();
+        private final List<Position> positions = new ArrayList<>();
+        private final List<Department> departments = new ArrayList<>();
+        private final List<Employee> employees = new ArrayList<>();
+        private final List<Project> projects = new ArrayList<>();
+        private final List<Task> tasks = new ArrayList<>();
+        private final List<TimeEntry> timeEntries = new ArrayList<>();
+
+        void addDepartment(Department department) {
+            if (department == null || seen.put(department, Boolean.TRUE) != null) {
+                return;
+            }
+            departments.add(department);
+            addEmployee(department.getManager());
+            for (Employee employee : department.getEmployees()) {
+                addEmployee(employee);
+            }
+        }
+
+        void addEmployee(Employee employee) {
+            if (employee == null || seen.put(employee, Boolean.TRUE) != null) {
+                return;
+            }
+            employees.add(employee);
+            if (seen.put(employee.getPosition(), Boolean.TRUE) == null) {
+                positions.add(employee.getPosition());
+            }
+            if (seen.put(employee.getWorkSchedule(), Boolean.TRUE) == null) {
+                schedules.add(employee.getWorkSchedule());
+            }
+            addDepartment(employee.getDepartment());
+            if (employee instanceof Manager) {
+                addDepartment(((Manager) employee).getManagedDepartment());
+            } else if (employee instanceof HRSpecialist) {
+                for (Department department : ((HRSpecialist) employee).getManagedDepartments()) {
+                    addDepartment(department);
+                }
+            }
+        }
+
+        void addProject(Project project) {
+            if (project == null || seen.put(project, Boolean.TRUE) != null) {
+                return;
+            }
+            projects.add(project);
+            addEmployee(project.getProjectManager());
+            for (Employee participant : project.getParticipants()) {
+                addEmployee(participant);
+            }
+            for (Task task : project.getTasks()) {
+                addTask(task);
+            }
+        }
+
+        // The owner is collected first so tasks and entries keep the order of their project and task
+        void addTask(Task task) {
+            if (seen.containsKey(task)) {
+                return;
+            }
+            addProject(task.getProject());
+            if (seen.put(task, Boolean.TRUE) != null) {
+                return;
+            }
+            tasks.add(task);
+            addEmployee(task.getAssignedEmployee());
+            for (TimeEntry entry : task.getTimeEntries()) {
+                addTimeEntry(entry);
+            }
+        }
+
+        void addTimeEntry(TimeEntry entry) {
+            if (seen.containsKey(entry)) {
+                return;
+            }
+            if (entry.getTask() != null) {
+                addTask(entry.getTask());
+            }
+            if (seen.put(entry, Boolean.TRUE) != null) {
+                return;
+            }
+            timeEntries.add(entry);
+            addEmployee(entry.getEmployee());
+            addProject(entry.getProject());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package company.snapshot;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+/**
+ * Encoding of the values shared by all sections of an {@link OrgSnapshot}.
+ * <p>
+ * Strings are a length (-1 for null) followed by their UTF-8 bytes, timestamps are UTC epoch
+ * seconds plus nanos ({@link Long#MIN_VALUE} for null), dates are epoch days and references
+ * to other records are their dense index in the snapshot (-1 for null).
+ */
+public final class SnapshotFormat {
+    public static final int NULL_REF = -1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private SnapshotFormat() {
+    }
+
+    public static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeLong(NULL_TIME);
+            return;
+        }
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    public static LocalDateTime readDateTime(DataInput in) throws IOException {
+        long seconds = in.readLong();
+        if (seconds == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(seconds, in.readInt(), ZoneOffset.UTC);
+    }
+
+    public static void writeDate(DataOutput out, LocalDate value) throws IOException {
+        out.writeLong(value.toEpochDay());
+    }
+
+    public static LocalDate readDate(DataInput in) throws IOException {
+        return LocalDate.ofEpochDay(in.readLong());
+    }
+
+    public static void writeTime(DataOutput out, LocalTime value) throws IOException {
+        out.writeLong(value.toNanoOfDay());
+    }
+
+    public static LocalTime readTime(DataInput in) throws IOException {
+        return LocalTime.ofNanoOfDay(in.readLong());
+    }
+
+    /**
+     * Resolves a reference read from the snapshot against the records loaded so far.
+     */
+    public static <T> T resolve(T[] records, int ref) throws IOException {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        if (ref < 0 || ref >= records.length || records[ref] == null) {
+            throw new IOException("Snapshot references unknown record " + ref);
+        }
+        return records[ref];
+    }
+}
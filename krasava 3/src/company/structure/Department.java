@@ -1,57 +1,102 @@
 package company.structure;
 
 import company.empoloyees.Employee;
+import company.empoloyees.EmployeeEvents;
+import company.empoloyees.EmployeeListener;
+import company.empoloyees.EmployeeRoster;
 import company.empoloyees.Manager;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Department {
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+    // Every object with the same department ID, e.g. one read back from a snapshot, shares its index
+    private static final Map<String, Integer> INDEX_BY_ID = new ConcurrentHashMap<>();
+
+    static {
+        EmployeeEvents.register(new RosterSync());
+    }
+
     private final String departmentId;
+    // Dense process-wide number per department ID, used to index per-department bitsets
+    private final int index;
     private String name;
     private String description;
     private Manager manager;
-    private final List<Employee> employees;
+    private final EmployeeRoster employees;
     private double budget;
 
     public Department(String departmentId, String name, String description) {
         validateDepartmentInput(departmentId, name);
         
         this.departmentId = departmentId;
+        this.index = INDEX_BY_ID.computeIfAbsent(departmentId, id -> NEXT_INDEX.getAndIncrement());
         this.name = name;
         this.description = description;
-        this.employees = new ArrayList<>();
+        this.employees = new EmployeeRoster();
     }
 
     // Public methods for department management
+    // Locks are always taken employee first, then department, matching Employee's own mutators.
     public void setManager(Manager manager) {
-        this.manager = Objects.requireNonNull(manager, "Manager cannot be null");
-        if (!employees.contains(manager)) {
-            employees.add(manager);
+        Objects.requireNonNull(manager, "Manager cannot be null");
+        synchronized (manager) {
+            synchronized (this) {
+                this.manager = manager;
+                admit(manager);
+            }
         }
     }
 
     void addEmployee(Employee employee) {
         Objects.requireNonNull(employee, "Employee cannot be null");
-        if (!employees.contains(employee)) {
-            employees.add(employee);
+        synchronized (employee) {
+            synchronized (this) {
+                admit(employee);
+            }
         }
     }
 
     void removeEmployee(Employee employee) {
-        if (employee.equals(manager)) {
-            throw new IllegalStateException("Cannot remove department manager");
+        synchronized (employee) {
+            synchronized (this) {
+                if (employee.equals(manager)) {
+                    throw new IllegalStateException("Cannot remove department manager");
+                }
+                release(employee);
+            }
         }
-        employees.remove(employee);
+    }
+
+    // Rebuilds manager and roster from a snapshot, without the checks of setManager/addEmployee
+    synchronized void restoreMembers(Manager manager, List<Employee> roster) {
+        this.manager = manager;
+        for (Employee employee : roster) {
+            admit(employee);
+        }
+    }
+
+    // Roster updates driven by RosterSync, invoked while the employee's lock is held
+    private synchronized boolean transferOut(Employee employee) {
+        return release(employee);
+    }
+
+    private synchronized void transferIn(Employee employee) {
+        admit(employee);
     }
 
     // Public getters
     public String getDepartmentId() { return departmentId; }
+    public int getIndex() { return index; }
     public String getName() { return name; }
     public String getDescription() { return description; }
     public Manager getManager() { return manager; }
-    public List<Employee> getEmployees() { return Collections.unmodifiableList(employees); }
+    public synchronized List<Employee> getEmployees() { return employees.asList(); }
     public double getBudget() { return budget; }
     public int getEmployeeCount() { return employees.size(); }
 
@@ -73,15 +118,58 @@ public class Department {
     }
 
     public double getTotalSalaries() {
-        return employees.stream()
-                       .mapToDouble(Employee::getSalary)
-                       .sum();
+        return employees.getTotalSalary();
     }
 
     public boolean isWithinBudget() {
         return getTotalSalaries() <= budget;
     }
 
+    /**
+     * Number of active roster members whose schedule has them working at the given time.
+     */
+    public int countWorkingAt(LocalDateTime time) {
+        Objects.requireNonNull(time, "Time cannot be null");
+        int count = 0;
+        for (Map.Entry<WorkSchedule, Integer> e : activeHeadcountBySchedule().entrySet()) {
+            if (e.getKey().isWorkingAt(time)) {
+                count += e.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Total scheduled working minutes of the active roster members in {@code [from, to)}.
+     * Members sharing a schedule instance are counted with a single bitmap scan.
+     */
+    public long getWorkingMinutesBetween(LocalDateTime from, LocalDateTime to) {
+        long total = 0;
+        for (Map.Entry<WorkSchedule, Integer> e : activeHeadcountBySchedule().entrySet()) {
+            total += e.getKey().getWorkingMinutesBetween(from, to) * e.getValue();
+        }
+        return total;
+    }
+
+    private synchronized Map<WorkSchedule, Integer> activeHeadcountBySchedule() {
+        Map<WorkSchedule, Integer> headcount = new IdentityHashMap<>();
+        for (Employee employee : employees.asList()) {
+            if (employee.isActive()) {
+                headcount.merge(employee.getWorkSchedule(), 1, Integer::sum);
+            }
+        }
+        return headcount;
+    }
+
+    // Private roster helpers; callers hold this department's lock
+    private void admit(Employee employee) {
+        employees.add(employee);
+    }
+
+    private boolean release(Employee employee) {
+        return employees.remove(employee);
+    }
+
     // Private validation methods
     private void validateDepartmentInput(String departmentId, String name) {
         if (departmentId == null || departmentId.trim().isEmpty()) {
@@ -119,4 +207,19 @@ public class Department {
     public int hashCode() {
         return Objects.hash(departmentId);
     }
+
+    /**
+     * Moves rostered employees between rosters on transfers; salary totals follow the roster.
+     * Employee events run while the employee's lock is held, so the employee-then-department
+     * lock order of the mutators above is kept.
+     */
+    private static final class RosterSync implements EmployeeListener {
+        @Override
+        public void onDepartmentChanged(Employee employee, Department oldDepartment) {
+            // Only rostered employees move rosters, together with their salary
+            if (oldDepartment.transferOut(employee)) {
+                employee.getDepartment().transferIn(employee);
+            }
+        }
+    }
 }
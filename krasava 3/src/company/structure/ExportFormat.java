@@ -0,0 +1,17 @@
+package company.structure;
+
+/**
+ * Output formats supported by {@link ReportExporter}.
+ */
+public enum ExportFormat {
+    /** Header line with the column names, then one comma-separated line per row. */
+    CSV,
+    /** One JSON object per line. */
+    JSONL,
+    /**
+     * Little-endian records: the magic {@code RPT1}, the column count and names, then for each
+     * row a 1 byte followed by key, label and one double per column, and a final 0 byte.
+     * Strings are an unsigned short byte length followed by UTF-8 bytes.
+     */
+    BINARY
+}
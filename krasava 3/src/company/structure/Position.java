@@ -13,6 +13,8 @@ public class Position {
     private double minSalary;
     private double maxSalary;
     private int accessLevel;
+    // Set once the position is shared through ReferenceDataRegistry
+    private final boolean shared;
 
     public Position(String positionId, String title, String description, double minSalary, double maxSalary) {
         validatePositionInput(positionId, title, minSalary, maxSalary);
@@ -24,10 +26,50 @@ public class Position {
         this.maxSalary = maxSalary;
         this.accessLevel = 1; // Default access level
         this.requiredSkills = new ArrayList<>();
+        this.shared = false;
     }
 
+    // Trusted constructor for values read back from a snapshot; nothing is validated
+    Position(String positionId, String title, String description, double minSalary, double maxSalary,
+             int accessLevel, List<String> requiredSkills) {
+        this.positionId = positionId;
+        this.title = title;
+        this.description = description;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.accessLevel = accessLevel;
+        this.requiredSkills = new ArrayList<>(requiredSkills);
+        this.shared = false;
+    }
+
+    private Position(Position source, List<String> requiredSkills, boolean shared) {
+        this.positionId = source.positionId;
+        this.title = source.title;
+        this.description = source.description;
+        this.minSalary = source.minSalary;
+        this.maxSalary = source.maxSalary;
+        this.accessLevel = source.accessLevel;
+        this.requiredSkills = requiredSkills;
+        this.shared = shared;
+    }
+
+    /**
+     * Returns a private, modifiable copy. Use it to change a shared position; intern the
+     * copy again to publish the new version.
+     */
+    public Position mutableCopy() {
+        return new Position(this, new ArrayList<>(requiredSkills), false);
+    }
+
+    /**
+     * Whether this is a canonical instance from {@link ReferenceDataRegistry}. Shared
+     * positions are read-only and their mutators throw {@link IllegalStateException}.
+     */
+    public boolean isShared() { return shared; }
+
     // Public methods
     public void setAccessLevel(int level) {
+        checkModifiable();
         if (level < 1 || level > 5) {
             throw new IllegalArgumentException("Access level must be between 1 and 5");
         }
@@ -45,21 +87,25 @@ public class Position {
 
     // Public methods for position management
     public void updateTitle(String newTitle) {
+        checkModifiable();
         validateTitle(newTitle);
         this.title = newTitle;
     }
 
     public void updateDescription(String newDescription) {
+        checkModifiable();
         this.description = newDescription;
     }
 
     public void setSalaryRange(double minSalary, double maxSalary) {
+        checkModifiable();
         validateSalaryRange(minSalary, maxSalary);
         this.minSalary = minSalary;
         this.maxSalary = maxSalary;
     }
 
     public void addRequiredSkill(String skill) {
+        checkModifiable();
         Objects.requireNonNull(skill, "Skill cannot be null");
         if (!skill.trim().isEmpty() && !requiredSkills.contains(skill)) {
             requiredSkills.add(skill);
@@ -67,6 +113,7 @@ public class Position {
     }
 
     public void removeRequiredSkill(String skill) {
+        checkModifiable();
         requiredSkills.remove(skill);
     }
 
@@ -74,7 +121,32 @@ public class Position {
         return salary >= minSalary && salary <= maxSalary;
     }
 
+    // Package-private methods for ReferenceDataRegistry
+    Position sharedCopy(List<String> canonicalSkills) {
+        return new Position(this, canonicalSkills, true);
+    }
+
+    boolean sameContent(Position other) {
+        return positionId.equals(other.positionId)
+                && title.equals(other.title)
+                && Objects.equals(description, other.description)
+                && Double.compare(minSalary, other.minSalary) == 0
+                && Double.compare(maxSalary, other.maxSalary) == 0
+                && accessLevel == other.accessLevel
+                && requiredSkills.equals(other.requiredSkills);
+    }
+
+    int contentHash() {
+        return Objects.hash(positionId, title, description, minSalary, maxSalary, accessLevel, requiredSkills);
+    }
+
     // Private validation methods
+    private void checkModifiable() {
+        if (shared) {
+            throw new IllegalStateException("Shared position " + positionId + " is read-only; use mutableCopy()");
+        }
+    }
+
     private void validatePositionInput(String positionId, String title, double minSalary, double maxSalary) {
         if (positionId == null || positionId.trim().isEmpty()) {
             throw new IllegalArgumentException("Position ID cannot be null or empty");
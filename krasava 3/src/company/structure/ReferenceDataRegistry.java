@@ -0,0 +1,139 @@
+package company.structure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalising registry for positions and work schedules.
+ * <p>
+ * {@code intern} returns one shared, read-only instance per distinct content, so employees
+ * with identical reference data point at the same object instead of each holding their own
+ * copy. Skill names are shared across positions as well. To change a shared instance,
+ * take a {@code mutableCopy()}, modify it and intern it again; employees that still hold
+ * the previous version keep seeing it unchanged.
+ * <p>
+ * The registry is thread-safe.
+ */
+public final class ReferenceDataRegistry {
+    private final Map<PositionKey, Position> positions;
+    private final Map<ScheduleKey, WorkSchedule> schedules;
+    private final Map<String, Position> latestPositions;
+    private final Map<String, WorkSchedule> latestSchedules;
+    private final Map<String, String> skills;
+
+    public ReferenceDataRegistry() {
+        this.positions = new ConcurrentHashMap<>();
+        this.schedules = new ConcurrentHashMap<>();
+        this.latestPositions = new ConcurrentHashMap<>();
+        this.latestSchedules = new ConcurrentHashMap<>();
+        this.skills = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the shared position with the same content as the given one, creating it on first use.
+     * The argument itself is never modified.
+     */
+    public Position intern(Position position) {
+        Objects.requireNonNull(position, "Position cannot be null");
+        Position existing = positions.get(new PositionKey(position));
+        if (existing != null) {
+            return existing;
+        }
+        Position shared = position.isShared() ? position : position.sharedCopy(canonicalSkills(position));
+        existing = positions.putIfAbsent(new PositionKey(shared), shared);
+        if (existing != null) {
+            return existing;
+        }
+        latestPositions.put(shared.getPositionId(), shared);
+        return shared;
+    }
+
+    /**
+     * Returns the shared schedule with the same content as the given one, creating it on first use.
+     * The argument itself is never modified.
+     */
+    public WorkSchedule intern(WorkSchedule schedule) {
+        Objects.requireNonNull(schedule, "Work schedule cannot be null");
+        WorkSchedule existing = schedules.get(new ScheduleKey(schedule));
+        if (existing != null) {
+            return existing;
+        }
+        WorkSchedule shared = schedule.isShared() ? schedule : schedule.sharedCopy();
+        existing = schedules.putIfAbsent(new ScheduleKey(shared), shared);
+        if (existing != null) {
+            return existing;
+        }
+        latestSchedules.put(shared.getScheduleId(), shared);
+        return shared;
+    }
+
+    /**
+     * Returns the most recently interned position with this ID, or null if there is none.
+     */
+    public Position getPosition(String positionId) {
+        return latestPositions.get(positionId);
+    }
+
+    /**
+     * Returns the most recently interned schedule with this ID, or null if there is none.
+     */
+    public WorkSchedule getSchedule(String scheduleId) {
+        return latestSchedules.get(scheduleId);
+    }
+
+    // Getters
+    public int getPositionCount() { return positions.size(); }
+    public int getScheduleCount() { return schedules.size(); }
+
+    // Private helper methods
+    private List<String> canonicalSkills(Position position) {
+        List<String> result = new ArrayList<>(position.getRequiredSkills().size());
+        for (String skill : position.getRequiredSkills()) {
+            result.add(skills.computeIfAbsent(skill, s -> s));
+        }
+        return List.copyOf(result);
+    }
+
+    private static final class PositionKey {
+        private final Position position;
+        private final int hash;
+
+        PositionKey(Position position) {
+            this.position = position;
+            this.hash = position.contentHash();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PositionKey && position.sameContent(((PositionKey) o).position);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class ScheduleKey {
+        private final WorkSchedule schedule;
+        private final int hash;
+
+        ScheduleKey(WorkSchedule schedule) {
+            this.schedule = schedule;
+            this.hash = schedule.contentHash();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ScheduleKey && schedule.sameContent(((ScheduleKey) o).schedule);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
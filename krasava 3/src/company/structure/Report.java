@@ -1,12 +1,22 @@
 package company.structure;
 
 import company.empoloyees.Employee;
+import company.monitoring.Metrics;
+import company.projects.HourRollups;
+import company.projects.Project;
 import company.projects.TimeEntry;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 public class Report {
     private final String reportId;
@@ -18,6 +28,8 @@ public class Report {
     private final LocalDateTime periodEnd;
     private String format;
     private ReportStatus status;
+    private TimeSummary timeSummary;
+    private ReportData data;
 
     public enum ReportType {
         TIME_TRACKING,
@@ -68,18 +80,114 @@ public class Report {
     public LocalDateTime getPeriodEnd() { return periodEnd; }
     public String getFormat() { return format; }
     public ReportStatus getStatus() { return status; }
+    public TimeSummary getTimeSummary() { return timeSummary; }
+    public ReportData getData() { return data; }
 
     public void generateTimeReport(List<TimeEntry> entries) {
         Objects.requireNonNull(entries, "Entries list cannot be null");
+        generateTimeReport(entries.iterator());
+    }
+
+    public void generateTimeReport(Stream<? extends TimeEntry> entries) {
+        Objects.requireNonNull(entries, "Entries stream cannot be null");
+        generateTimeReport(entries.iterator());
+    }
+
+    /**
+     * Aggregates the entries in a single pass, keeping only per-group totals for the report period.
+     */
+    public void generateTimeReport(Iterator<? extends TimeEntry> entries) {
+        Objects.requireNonNull(entries, "Entries cannot be null");
         if (type != ReportType.TIME_TRACKING) {
             throw new IllegalStateException("This report is not configured for time tracking");
         }
         
         System.out.println("Generating time report: " + title);
-        // Implementation for time report generation
-        status = ReportStatus.GENERATED;
+        long start = Metrics.start();
+        try {
+            timeSummary = new TimeReportEngine(periodStart, periodEnd).consume(entries).summarize();
+            data = ReportData.of(timeSummary);
+            status = ReportStatus.GENERATED;
+        } finally {
+            Metrics.REPORT_GENERATE.record(start);
+        }
+    }
+
+    /**
+     * Answers the time report from pre-aggregated rollups instead of scanning entries.
+     * Only approved hours are counted, and entries are counted by the bucket of their start.
+     * The report period must start and end on the hour. Where the rollups have compacted their
+     * hourly or daily buckets, period bounds are rounded down to the day or week, as described
+     * in {@link HourRollups}, so totals may differ from the entry scan there.
+     *
+     * @throws IllegalStateException if the period does not start and end on the hour
+     */
+    public void generateTimeReport(HourRollups rollups) {
+        Objects.requireNonNull(rollups, "Rollups cannot be null");
+        if (type != ReportType.TIME_TRACKING) {
+            throw new IllegalStateException("This report is not configured for time tracking");
+        }
+        if (!isOnTheHour(periodStart) || !isOnTheHour(periodEnd)) {
+            throw new IllegalStateException("Rollup time reports need a period that starts and ends on the hour");
+        }
+
+        long start = Metrics.start();
+        try {
+            timeSummary = new TimeSummary(periodStart, periodEnd,
+                    rollups.getEntryCount(periodStart, periodEnd),
+                    rollups.getTotalHours(periodStart, periodEnd),
+                    rollups.getHoursByEmployee(periodStart, periodEnd),
+                    rollups.getHoursByProject(periodStart, periodEnd),
+                    rollups.getHoursByTask(periodStart, periodEnd),
+                    rollups.getHoursByDay(periodStart, periodEnd));
+            data = ReportData.of(timeSummary);
+            status = ReportStatus.GENERATED;
+        } finally {
+            Metrics.REPORT_GENERATE.record(start);
+        }
+    }
+
+    /**
+     * Generates this report's type in parallel on the given pool. Department summaries
+     * read {@code departments}; all other types walk the tasks and time entries of {@code projects}.
+     */
+    public void generate(List<Department> departments, List<Project> projects, ForkJoinPool pool) {
+        Objects.requireNonNull(departments, "Departments cannot be null");
+        Objects.requireNonNull(projects, "Projects cannot be null");
+        ReportGenerator generator = new ReportGenerator(pool, periodStart, periodEnd);
+
+        long start = Metrics.start();
+        try {
+            switch (type) {
+                case TIME_TRACKING:
+                    timeSummary = generator.timeTracking(projects);
+                    data = ReportData.of(timeSummary);
+                    break;
+                case DEPARTMENT_SUMMARY:
+                    data = generator.departmentSummary(departments);
+                    break;
+                case PROJECT_PROGRESS:
+                    data = generator.projectProgress(projects);
+                    break;
+                case EMPLOYEE_PERFORMANCE:
+                    data = generator.employeePerformance(projects);
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported report type: " + type);
+            }
+            status = ReportStatus.GENERATED;
+        } finally {
+            Metrics.REPORT_GENERATE.record(start);
+        }
     }
 
+    /**
+     * Marks the report as exported in the named format without writing anything.
+     *
+     * @deprecated writes no data; use {@link #exportReport(ExportFormat, WritableByteChannel)}
+     *             or {@link #exportReport(ExportFormat, Path)}
+     */
+    @Deprecated
     public void exportReport(String format) {
         Objects.requireNonNull(format, "Format cannot be null");
         if (status != ReportStatus.GENERATED) {
@@ -91,6 +199,42 @@ public class Report {
         status = ReportStatus.EXPORTED;
     }
 
+    /**
+     * Writes the generated data to the channel. The report becomes EXPORTED only after every
+     * byte has been written (and, for file channels, forced to disk).
+     */
+    public void exportReport(ExportFormat format, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(format, "Format cannot be null");
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        validateExportable();
+
+        long start = Metrics.start();
+        try {
+            ReportExporter.export(data, format, channel);
+            if (channel instanceof FileChannel) {
+                ((FileChannel) channel).force(false);
+            }
+        } finally {
+            Metrics.REPORT_EXPORT.record(start);
+        }
+        this.format = format.name();
+        status = ReportStatus.EXPORTED;
+    }
+
+    /**
+     * Writes the generated data to the file, replacing its contents. The file is not touched
+     * unless the report can be exported.
+     */
+    public void exportReport(ExportFormat format, Path file) throws IOException {
+        Objects.requireNonNull(format, "Format cannot be null");
+        Objects.requireNonNull(file, "File cannot be null");
+        validateExportable();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            exportReport(format, channel);
+        }
+    }
+
     public void archive() {
         if (status != ReportStatus.EXPORTED) {
             throw new IllegalStateException("Report must be exported before archiving");
@@ -98,6 +242,20 @@ public class Report {
         status = ReportStatus.ARCHIVED;
     }
 
+    // Private validation methods
+    private static boolean isOnTheHour(LocalDateTime time) {
+        return time.equals(time.truncatedTo(ChronoUnit.HOURS));
+    }
+
+    private void validateExportable() {
+        if (status != ReportStatus.GENERATED) {
+            throw new IllegalStateException("Report must be generated before export");
+        }
+        if (data == null) {
+            throw new IllegalStateException("Report has no data to export");
+        }
+    }
+
     @Override
     public String toString() {
         return "Report{" +
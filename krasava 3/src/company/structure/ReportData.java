@@ -0,0 +1,91 @@
+package company.structure;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tabular content of a generated report: a fixed list of numeric columns and one row
+ * per group (department, project, employee, ...). Each row carries the group's ID as
+ * its key and a human-readable label.
+ */
+public final class ReportData {
+    private final List<String> columns;
+    private final List<Row> rows;
+
+    public ReportData(List<String> columns, List<Row> rows) {
+        this.columns = List.copyOf(Objects.requireNonNull(columns, "Columns cannot be null"));
+        this.rows = Collections.unmodifiableList(new ArrayList<>(Objects.requireNonNull(rows, "Rows cannot be null")));
+        for (Row row : this.rows) {
+            if (row.values.length != this.columns.size()) {
+                throw new IllegalArgumentException("Row " + row.key + " does not match the report columns");
+            }
+        }
+    }
+
+    /**
+     * Flattens a time summary into rows labelled EMPLOYEE, PROJECT, TASK and DAY with a single hours column.
+     */
+    public static ReportData of(TimeSummary summary) {
+        Objects.requireNonNull(summary, "Time summary cannot be null");
+        List<Row> rows = new ArrayList<>();
+        addHours(rows, "EMPLOYEE", summary.getHoursByEmployee());
+        addHours(rows, "PROJECT", summary.getHoursByProject());
+        addHours(rows, "TASK", summary.getHoursByTask());
+        for (Map.Entry<LocalDate, Double> e : summary.getHoursByDay().entrySet()) {
+            rows.add(new Row(e.getKey().toString(), "DAY", e.getValue()));
+        }
+        return new ReportData(List.of("hours"), rows);
+    }
+
+    // Getters
+    public List<String> getColumns() { return columns; }
+    public List<Row> getRows() { return rows; }
+    public int getRowCount() { return rows.size(); }
+
+    private static void addHours(List<Row> rows, String label, Map<String, Double> hours) {
+        for (Map.Entry<String, Double> e : hours.entrySet()) {
+            rows.add(new Row(e.getKey(), label, e.getValue()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReportData{" +
+                "columns=" + columns +
+                ", rows=" + rows.size() +
+                '}';
+    }
+
+    /**
+     * One line of a report.
+     */
+    public static final class Row {
+        private final String key;
+        private final String label;
+        private final double[] values;
+
+        public Row(String key, String label, double... values) {
+            this.key = Objects.requireNonNull(key, "Row key cannot be null");
+            this.label = Objects.requireNonNull(label, "Row label cannot be null");
+            this.values = Objects.requireNonNull(values, "Row values cannot be null").clone();
+        }
+
+        public String getKey() { return key; }
+        public String getLabel() { return label; }
+        public int getValueCount() { return values.length; }
+        public double getValue(int column) { return values[column]; }
+
+        @Override
+        public String toString() {
+            return "Row{" +
+                    "key='" + key + '\'' +
+                    ", label='" + label + '\'' +
+                    ", values=" + java.util.Arrays.toString(values) +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package company.structure;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes report rows to a byte channel as CSV, JSON Lines or the binary format described
+ * in {@link ExportFormat}.
+ * <p>
+ * Rows are encoded straight into a per-thread direct buffer that is written out whenever
+ * it fills up, so memory use does not depend on the size of the output, and rows can be
+ * streamed from an iterator. Numbers in the text formats are written with up to six
+ * decimal places; very large, very small and non-finite values fall back to
+ * {@link Double#toString(double)} ({@code null} in JSON for non-finite values).
+ */
+public final class ReportExporter {
+    static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<ByteBuffer> BUFFERS =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN));
+    private static final byte[] MAGIC = {'R', 'P', 'T', '1'};
+    private static final long FRACTION_SCALE = 1_000_000L;
+    private static final double MAX_FIXED = 1e12;
+    private static final double MIN_FIXED = 1e-6;
+
+    private ReportExporter() {
+    }
+
+    /**
+     * Writes all rows of the report data.
+     *
+     * @return the number of bytes written
+     */
+    public static long export(ReportData data, ExportFormat format, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(data, "Report data cannot be null");
+        return export(data.getColumns(), data.getRows().iterator(), format, channel);
+    }
+
+    /**
+     * Streams rows from an iterator; only the current row is held in memory.
+     *
+     * @return the number of bytes written
+     */
+    public static long export(List<String> columns, Iterator<ReportData.Row> rows, ExportFormat format,
+                              WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(columns, "Columns cannot be null");
+        Objects.requireNonNull(rows, "Rows cannot be null");
+        Objects.requireNonNull(format, "Format cannot be null");
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        Sink sink = new Sink(channel, BUFFERS.get());
+        switch (format) {
+            case CSV:
+                writeCsv(sink, columns, rows);
+                break;
+            case JSONL:
+                writeJsonLines(sink, columns, rows);
+                break;
+            case BINARY:
+                writeBinary(sink, columns, rows);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+        sink.flush();
+        return sink.written;
+    }
+
+    // Private helper methods
+    private static void writeCsv(Sink sink, List<String> columns, Iterator<ReportData.Row> rows) throws IOException {
+        sink.ascii("key,label");
+        for (String column : columns) {
+            sink.put((byte) ',');
+            csvField(sink, column);
+        }
+        sink.put((byte) '\n');
+        while (rows.hasNext()) {
+            ReportData.Row row = checkRow(rows.next(), columns);
+            csvField(sink, row.getKey());
+            sink.put((byte) ',');
+            csvField(sink, row.getLabel());
+            for (int i = 0; i < row.getValueCount(); i++) {
+                sink.put((byte) ',');
+                number(sink, row.getValue(i), false);
+            }
+            sink.put((byte) '\n');
+        }
+    }
+
+    private static void writeJsonLines(Sink sink, List<String> columns, Iterator<ReportData.Row> rows) throws IOException {
+        while (rows.hasNext()) {
+            ReportData.Row row = checkRow(rows.next(), columns);
+            sink.ascii("{\"key\":");
+            jsonString(sink, row.getKey());
+            sink.ascii(",\"label\":");
+            jsonString(sink, row.getLabel());
+            for (int i = 0; i < row.getValueCount(); i++) {
+                sink.put((byte) ',');
+                jsonString(sink, columns.get(i));
+                sink.put((byte) ':');
+                number(sink, row.getValue(i), true);
+            }
+            sink.ascii("}\n");
+        }
+    }
+
+    private static void writeBinary(Sink sink, List<String> columns, Iterator<ReportData.Row> rows) throws IOException {
+        sink.ensure(MAGIC.length + 4);
+        sink.buffer.put(MAGIC);
+        sink.buffer.putInt(columns.size());
+        for (String column : columns) {
+            binaryString(sink, column);
+        }
+        while (rows.hasNext()) {
+            ReportData.Row row = checkRow(rows.next(), columns);
+            sink.put((byte) 1);
+            binaryString(sink, row.getKey());
+            binaryString(sink, row.getLabel());
+            for (int i = 0; i < row.getValueCount(); i++) {
+                sink.ensure(Double.BYTES);
+                sink.buffer.putDouble(row.getValue(i));
+            }
+        }
+        sink.put((byte) 0);
+    }
+
+    private static ReportData.Row checkRow(ReportData.Row row, List<String> columns) {
+        Objects.requireNonNull(row, "Row cannot be null");
+        if (row.getValueCount() != columns.size()) {
+            throw new IllegalArgumentException("Row " + row.getKey() + " does not match the report columns");
+        }
+        return row;
+    }
+
+    private static void csvField(Sink sink, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            sink.utf8(value);
+            return;
+        }
+        sink.put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                sink.put((byte) '"');
+            }
+            i = sink.utf8Char(value, i);
+        }
+        sink.put((byte) '"');
+    }
+
+    private static void jsonString(Sink sink, String value) throws IOException {
+        sink.put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sink.put((byte) '\\');
+                sink.put((byte) c);
+            } else if (c == '\n') {
+                sink.ascii("\\n");
+            } else if (c == '\r') {
+                sink.ascii("\\r");
+            } else if (c == '\t') {
+                sink.ascii("\\t");
+            } else if (c < 0x20) {
+                sink.ascii("\\u00");
+                sink.put(hexDigit(c >> 4));
+                sink.put(hexDigit(c & 0xF));
+            } else {
+                i = sink.utf8Char(value, i);
+            }
+        }
+        sink.put((byte) '"');
+    }
+
+    private static void binaryString(Sink sink, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("String is too long for the binary format");
+        }
+        sink.ensure(2);
+        sink.buffer.putShort((short) bytes.length);
+        int offset = 0;
+        while (offset < bytes.length) {
+            sink.ensure(1);
+            int chunk = Math.min(sink.buffer.remaining(), bytes.length - offset);
+            sink.buffer.put(bytes, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    /**
+     * Writes a double with up to six decimal places, trailing zeros removed.
+     */
+    private static void number(Sink sink, double value, boolean json) throws IOException {
+        if (!Double.isFinite(value)) {
+            sink.ascii(json ? "null" : Double.toString(value));
+            return;
+        }
+        double magnitude = Math.abs(value);
+        if (magnitude >= MAX_FIXED || (magnitude < MIN_FIXED && magnitude != 0)) {
+            sink.ascii(Double.toString(value));
+            return;
+        }
+        long scaled = Math.round(magnitude * FRACTION_SCALE);
+        if (scaled == 0) {
+            sink.put((byte) '0');
+            return;
+        }
+        if (value < 0) {
+            sink.put((byte) '-');
+        }
+        sink.digits(scaled / FRACTION_SCALE);
+        long fraction = scaled % FRACTION_SCALE;
+        if (fraction != 0) {
+            sink.put((byte) '.');
+            long divisor = FRACTION_SCALE / 10;
+            while (fraction != 0) {
+                sink.put((byte) ('0' + fraction / divisor));
+                fraction %= divisor;
+                divisor /= 10;
+            }
+        }
+    }
+
+    private static byte hexDigit(int value) {
+        return (byte) (value < 10 ? '0' + value : 'a' + value - 10);
+    }
+
+    /**
+     * Buffered writer over a channel; the buffer is written out whenever the next item does not fit.
+     */
+    private static final class Sink {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private final byte[] scratch;
+        private long written;
+
+        Sink(WritableByteChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.scratch = new byte[20];
+            buffer.clear();
+        }
+
+        void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        void put(byte b) throws IOException {
+            ensure(1);
+            buffer.put(b);
+        }
+
+        void ascii(String value) throws IOException {
+            if (value.length() > buffer.capacity()) {
+                for (int i = 0; i < value.length(); i++) {
+                    put((byte) value.charAt(i));
+                }
+                return;
+            }
+            ensure(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+        }
+
+        void utf8(String value) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                i = utf8Char(value, i);
+            }
+        }
+
+        // Encodes the character at index i and returns the index of its last char
+        int utf8Char(String value, int i) throws IOException {
+            ensure(4);
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(i + 1));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                return i + 1;
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+            return i;
+        }
+
+        void digits(long value) throws IOException {
+            int pos = scratch.length;
+            do {
+                scratch[--pos] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            ensure(scratch.length - pos);
+            buffer.put(scratch, pos, scratch.length - pos);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package company.structure;
+
+import company.empoloyees.Employee;
+import company.projects.Project;
+import company.projects.Task;
+import company.projects.TimeEntry;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel generators for every {@link Report.ReportType}.
+ * <p>
+ * The org graph is split recursively across a fork/join pool: departments into slices
+ * of their employees, projects into slices of their tasks and large tasks into slices
+ * of their time entries. Every slice builds a partial aggregate and the partials are
+ * merged on the way back up, so no shared state is written while the pool works.
+ * Time entries are clipped to the report period; running entries are ignored.
+ */
+public final class ReportGenerator {
+    private static final int SLICE_SIZE = 1024;
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    static final List<String> DEPARTMENT_COLUMNS = List.of(
+            "employees", "activeEmployees", "totalSalaries", "budget", "budgetUsedPercent");
+    static final List<String> PROJECT_COLUMNS = List.of(
+            "tasks", "completedTasks", "estimatedHours", "actualHours", "periodHours", "approvedPeriodHours",
+            "progressPercent");
+    static final List<String> EMPLOYEE_COLUMNS = List.of(
+            "entries", "periodHours", "approvedPeriodHours", "assignedTasks", "completedTasks");
+
+    private final ForkJoinPool pool;
+    private final LocalDateTime periodStart;
+    private final LocalDateTime periodEnd;
+    private final long periodStartSecond;
+    private final long periodEndSecond;
+
+    public ReportGenerator(ForkJoinPool pool, LocalDateTime periodStart, LocalDateTime periodEnd) {
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.periodStart = Objects.requireNonNull(periodStart, "Period start cannot be null");
+        this.periodEnd = Objects.requireNonNull(periodEnd, "Period end cannot be null");
+        if (periodEnd.isBefore(periodStart)) {
+            throw new IllegalArgumentException("Period end cannot be before period start");
+        }
+        this.periodStartSecond = periodStart.toEpochSecond(ZoneOffset.UTC);
+        this.periodEndSecond = periodEnd.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public ReportData departmentSummary(List<Department> departments) {
+        Objects.requireNonNull(departments, "Departments cannot be null");
+        List<Group<Department, DepartmentTotals>> rows = pool.invoke(new Slice<>(departments, 0, departments.size(), 1,
+                this::summarizeDepartment, ReportGenerator::concat));
+        List<ReportData.Row> result = new ArrayList<>(rows.size());
+        for (Group<Department, DepartmentTotals> row : rows) {
+            Department department = row.owner;
+            DepartmentTotals totals = row.totals;
+            double salaries = totals.salaryCents / 100.0;
+            double budget = department.getBudget();
+            result.add(new ReportData.Row(department.getDepartmentId(), department.getName(),
+                    totals.employees, totals.activeEmployees, salaries, budget,
+                    budget > 0 ? salaries / budget * 100 : 0));
+        }
+        return new ReportData(DEPARTMENT_COLUMNS, result);
+    }
+
+    public ReportData projectProgress(List<Project> projects) {
+        Objects.requireNonNull(projects, "Projects cannot be null");
+        List<Group<Project, ProjectTotals>> rows = pool.invoke(new Slice<>(projects, 0, projects.size(), 1,
+                this::summarizeProject, ReportGenerator::concat));
+        List<ReportData.Row> result = new ArrayList<>(rows.size());
+        for (Group<Project, ProjectTotals> row : rows) {
+            Project project = row.owner;
+            ProjectTotals totals = row.totals;
+            double actualHours = totals.actualMinutes / 60.0;
+            result.add(new ReportData.Row(project.getProjectId(), project.getName(),
+                    totals.tasks, totals.completedTasks, totals.estimatedHours, actualHours,
+                    totals.time.seconds / SECONDS_PER_HOUR, totals.time.approvedSeconds / SECONDS_PER_HOUR,
+                    totals.estimatedHours > 0 ? actualHours / totals.estimatedHours * 100 : 0));
+        }
+        return new ReportData(PROJECT_COLUMNS, result);
+    }
+
+    public ReportData employeePerformance(List<Project> projects) {
+        Objects.requireNonNull(projects, "Projects cannot be null");
+        List<Task> tasks = tasksOf(projects);
+        Map<String, EmployeeTotals> totals = pool.invoke(new Slice<>(tasks, 0, tasks.size(), SLICE_SIZE,
+                this::summarizeAssignees, ReportGenerator::mergeEmployees));
+        List<ReportData.Row> result = new ArrayList<>(totals.size());
+        for (EmployeeTotals employee : new TreeMap<>(totals).values()) {
+            result.add(new ReportData.Row(employee.employee.getEmployeeId(), employee.employee.getFullName(),
+                    employee.time.entries, employee.time.seconds / SECONDS_PER_HOUR,
+                    employee.time.approvedSeconds / SECONDS_PER_HOUR,
+                    employee.assignedTasks, employee.completedTasks));
+        }
+        return new ReportData(EMPLOYEE_COLUMNS, result);
+    }
+
+    public TimeSummary timeTracking(List<Project> projects) {
+        Objects.requireNonNull(projects, "Projects cannot be null");
+        List<Task> tasks = tasksOf(projects);
+        return pool.invoke(new Slice<>(tasks, 0, tasks.size(), SLICE_SIZE, this::trackTime,
+                TimeReportEngine::merge)).summarize();
+    }
+
+    // Leaf work for each report type
+    private List<Group<Department, DepartmentTotals>> summarizeDepartment(List<Department> departments, int from, int to) {
+        List<Group<Department, DepartmentTotals>> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Department department = departments.get(i);
+            List<Employee> employees = List.copyOf(department.getEmployees());
+            DepartmentTotals totals = new Slice<>(employees, 0, employees.size(), SLICE_SIZE,
+                    ReportGenerator::countEmployees, DepartmentTotals::merge).invoke();
+            rows.add(new Group<>(department, totals));
+        }
+        return rows;
+    }
+
+    private static DepartmentTotals countEmployees(List<Employee> employees, int from, int to) {
+        DepartmentTotals totals = new DepartmentTotals();
+        for (int i = from; i < to; i++) {
+            Employee employee = employees.get(i);
+            totals.employees++;
+            if (employee.isActive()) {
+                totals.activeEmployees++;
+            }
+            totals.salaryCents += Math.round(employee.getSalary() * 100);
+        }
+        return totals;
+    }
+
+    private List<Group<Project, ProjectTotals>> summarizeProject(List<Project> projects, int from, int to) {
+        List<Group<Project, ProjectTotals>> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            Project project = projects.get(i);
+            List<Task> tasks = project.getTasks();
+            rows.add(new Group<>(project, new Slice<>(tasks, 0, tasks.size(), 1,
+                    this::summarizeTasks, ProjectTotals::merge).invoke()));
+        }
+        return rows;
+    }
+
+    private ProjectTotals summarizeTasks(List<Task> tasks, int from, int to) {
+        ProjectTotals totals = new ProjectTotals();
+        for (int i = from; i < to; i++) {
+            Task task = tasks.get(i);
+            totals.tasks++;
+            if (task.getStatus() == Task.TaskStatus.COMPLETED) {
+                totals.completedTasks++;
+            }
+            totals.estimatedHours += task.getEstimatedHours();
+            totals.actualMinutes += task.getActualMinutes();
+            List<TimeEntry> entries = task.getTimeEntries();
+            totals.time.merge(new Slice<>(entries, 0, entries.size(), SLICE_SIZE,
+                    this::measureEntries, EntryTime::merge).invoke());
+        }
+        return totals;
+    }
+
+    private EntryTime measureEntries(List<TimeEntry> entries, int from, int to) {
+        EntryTime time = new EntryTime();
+        for (int i = from; i < to; i++) {
+            time.add(entries.get(i), overlapSeconds(entries.get(i)));
+        }
+        return time;
+    }
+
+    private Map<String, EmployeeTotals> summarizeAssignees(List<Task> tasks, int from, int to) {
+        Map<String, EmployeeTotals> totals = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            Task task = tasks.get(i);
+            Employee assignee = task.getAssignedEmployee();
+            if (assignee != null) {
+                EmployeeTotals employee = totalsFor(totals, assignee);
+                employee.assignedTasks++;
+                if (task.getStatus() == Task.TaskStatus.COMPLETED) {
+                    employee.completedTasks++;
+                }
+            }
+            for (TimeEntry entry : task.getTimeEntries()) {
+                long seconds = overlapSeconds(entry);
+                if (seconds > 0) {
+                    totalsFor(totals, entry.getEmployee()).time.add(entry, seconds);
+                }
+            }
+        }
+        return totals;
+    }
+
+    private TimeReportEngine trackTime(List<Task> tasks, int from, int to) {
+        TimeReportEngine engine = new TimeReportEngine(periodStart, periodEnd);
+        for (int i = from; i < to; i++) {
+            engine.consume(tasks.get(i).getTimeEntries().iterator());
+        }
+        return engine;
+    }
+
+    // Private helper methods
+    private long overlapSeconds(TimeEntry entry) {
+        if (entry.getEndTime() == null) {
+            return 0;
+        }
+        long from = Math.max(entry.getStartTime().toEpochSecond(ZoneOffset.UTC), periodStartSecond);
+        long to = Math.min(entry.getEndTime().toEpochSecond(ZoneOffset.UTC), periodEndSecond);
+        return Math.max(0, to - from);
+    }
+
+    private static List<Task> tasksOf(List<Project> projects) {
+        List<Task> tasks = new ArrayList<>();
+        for (Project project : projects) {
+            tasks.addAll(project.getTasks());
+        }
+        return tasks;
+    }
+
+    private static EmployeeTotals totalsFor(Map<String, EmployeeTotals> totals, Employee employee) {
+        return totals.computeIfAbsent(employee.getEmployeeId(), id -> new EmployeeTotals(employee));
+    }
+
+    private static <T> List<T> concat(List<T> left, List<T> right) {
+        left.addAll(right);
+        return left;
+    }
+
+    private static Map<String, EmployeeTotals> mergeEmployees(Map<String, EmployeeTotals> left,
+                                                              Map<String, EmployeeTotals> right) {
+        for (Map.Entry<String, EmployeeTotals> e : right.entrySet()) {
+            left.merge(e.getKey(), e.getValue(), EmployeeTotals::merge);
+        }
+        return left;
+    }
+
+    @FunctionalInterface
+    private interface Leaf<T, P> {
+        P compute(List<T> items, int from, int to);
+    }
+
+    @FunctionalInterface
+    private interface Merge<P> {
+        P apply(P left, P right);
+    }
+
+    /**
+     * Splits {@code items[from, to)} in halves until a slice is at most {@code sliceSize} long.
+     * Never serialized; {@link RecursiveTask} is only {@code Serializable} by inheritance.
+     */
+    @SuppressWarnings("serial")
+    private static final class Slice<T, P> extends RecursiveTask<P> {
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final int sliceSize;
+        private final Leaf<T, P> leaf;
+        private final Merge<P> merge;
+
+        Slice(List<T> items, int from, int to, int sliceSize, Leaf<T, P> leaf, Merge<P> merge) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.sliceSize = sliceSize;
+            this.leaf = leaf;
+            this.merge = merge;
+        }
+
+        @Override
+        protected P compute() {
+            if (to - from <= sliceSize) {
+                return leaf.compute(items, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            Slice<T, P> left = new Slice<>(items, from, middle, sliceSize, leaf, merge);
+            left.fork();
+            P right = new Slice<>(items, middle, to, sliceSize, leaf, merge).compute();
+            return merge.apply(left.join(), right);
+        }
+    }
+
+    // Partial aggregates
+    private static final class Group<O, T> {
+        final O owner;
+        final T totals;
+
+        Group(O owner, T totals) {
+            this.owner = owner;
+            this.totals = totals;
+        }
+    }
+
+    private static final class DepartmentTotals {
+        int employees;
+        int activeEmployees;
+        long salaryCents;
+
+        DepartmentTotals merge(DepartmentTotals other) {
+            employees += other.employees;
+            activeEmployees += other.activeEmployees;
+            salaryCents += other.salaryCents;
+            return this;
+        }
+    }
+
+    private static final class EntryTime {
+        long entries;
+        long seconds;
+        long approvedSeconds;
+
+        void add(TimeEntry entry, long overlap) {
+            if (overlap > 0) {
+                entries++;
+                seconds += overlap;
+                if (entry.isApproved()) {
+                    approvedSeconds += overlap;
+                }
+            }
+        }
+
+        EntryTime merge(EntryTime other) {
+            entries += other.entries;
+            seconds += other.seconds;
+            approvedSeconds += other.approvedSeconds;
+            return this;
+        }
+    }
+
+    private static final class ProjectTotals {
+        final EntryTime time = new EntryTime();
+        int tasks;
+        int completedTasks;
+        double estimatedHours;
+        long actualMinutes;
+
+        ProjectTotals merge(ProjectTotals other) {
+            time.merge(other.time);
+            tasks += other.tasks;
+            completedTasks += other.completedTasks;
+            estimatedHours += other.estimatedHours;
+            actualMinutes += other.actualMinutes;
+            return this;
+        }
+    }
+
+    private static final class EmployeeTotals {
+        final Employee employee;
+        final EntryTime time = new EntryTime();
+        int assignedTasks;
+        int completedTasks;
+
+        EmployeeTotals(Employee employee) {
+            this.employee = employee;
+        }
+
+        EmployeeTotals merge(EmployeeTotals other) {
+            time.merge(other.time);
+            assignedTasks += other.assignedTasks;
+            completedTasks += other.completedTasks;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package company.structure;
+
+import company.empoloyees.Employee;
+import company.empoloyees.Manager;
+import company.snapshot.SnapshotFormat;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Snapshot records of the structure package. Reading goes through trusted constructors,
+ * so the values are restored as they were written without being validated again.
+ */
+public final class StructureCodec {
+    private StructureCodec() {
+    }
+
+    public static void writeSchedule(DataOutput out, WorkSchedule schedule) throws IOException {
+        SnapshotFormat.writeString(out, schedule.getScheduleId());
+        SnapshotFormat.writeString(out, schedule.getScheduleName());
+        out.writeInt(schedule.getWorkDaysPerWeek());
+        out.writeDouble(schedule.getHoursPerDay());
+        SnapshotFormat.writeTime(out, schedule.getStartTime());
+        SnapshotFormat.writeTime(out, schedule.getEndTime());
+        out.writeLong(schedule.getBreakDuration().toNanos());
+        out.writeBoolean(schedule.isFlexible());
+        int days = 0;
+        for (DayOfWeek day : schedule.getWorkingDays()) {
+            days |= 1 << day.ordinal();
+        }
+        out.writeByte(days);
+    }
+
+    public static WorkSchedule readSchedule(DataInput in) throws IOException {
+        String scheduleId = SnapshotFormat.readString(in);
+        String scheduleName = SnapshotFormat.readString(in);
+        int workDaysPerWeek = in.readInt();
+        double hoursPerDay = in.readDouble();
+        LocalTime startTime = SnapshotFormat.readTime(in);
+        LocalTime endTime = SnapshotFormat.readTime(in);
+        Duration breakDuration = Duration.ofNanos(in.readLong());
+        boolean isFlexible = in.readBoolean();
+        int days = in.readUnsignedByte();
+        Set<DayOfWeek> workingDays = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((days & (1 << day.ordinal())) != 0) {
+                workingDays.add(day);
+            }
+        }
+        return new WorkSchedule(scheduleId, scheduleName, workDaysPerWeek, hoursPerDay,
+                startTime, endTime, breakDuration, isFlexible, workingDays);
+    }
+
+    public static void writePosition(DataOutput out, Position position) throws IOException {
+        SnapshotFormat.writeString(out, position.getPositionId());
+        SnapshotFormat.writeString(out, position.getTitle());
+        SnapshotFormat.writeString(out, position.getDescription());
+        out.writeDouble(position.getMinSalary());
+        out.writeDouble(position.getMaxSalary());
+        out.writeInt(position.getAccessLevel());
+        List<String> skills = position.getRequiredSkills();
+        out.writeInt(skills.size());
+        for (String skill : skills) {
+            SnapshotFormat.writeString(out, skill);
+        }
+    }
+
+    public static Position readPosition(DataInput in) throws IOException {
+        String positionId = SnapshotFormat.readString(in);
+        String title = SnapshotFormat.readString(in);
+        String description = SnapshotFormat.readString(in);
+        double minSalary = in.readDouble();
+        double maxSalary = in.readDouble();
+        int accessLevel = in.readInt();
+        int skillCount = in.readInt();
+        List<String> skills = new ArrayList<>(skillCount);
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(SnapshotFormat.readString(in));
+        }
+        return new Position(positionId, title, description, minSalary, maxSalary, accessLevel, skills);
+    }
+
+    public static void writeDepartment(DataOutput out, Department department) throws IOException {
+        SnapshotFormat.writeString(out, department.getDepartmentId());
+        SnapshotFormat.writeString(out, department.getName());
+        SnapshotFormat.writeString(out, department.getDescription());
+        out.writeDouble(department.getBudget());
+    }
+
+    public static Department readDepartment(DataInput in) throws IOException {
+        Department department = new Department(SnapshotFormat.readString(in),
+                SnapshotFormat.readString(in), SnapshotFormat.readString(in));
+        department.setBudget(in.readDouble());
+        return department;
+    }
+
+    /**
+     * Writes the manager and roster of a department as references to employee records.
+     */
+    public static void writeMembers(DataOutput out, Department department,
+                                    ToIntFunction<Employee> employeeIds) throws IOException {
+        Manager manager = department.getManager();
+        out.writeInt(manager != null ? employeeIds.applyAsInt(manager) : SnapshotFormat.NULL_REF);
+        List<Employee> roster = department.getEmployees();
+        out.writeInt(roster.size());
+        for (Employee employee : roster) {
+            out.writeInt(employeeIds.applyAsInt(employee));
+        }
+    }
+
+    public static void readMembers(DataInput in, Department department, Employee[] employees) throws IOException {
+        Employee manager = SnapshotFormat.resolve(employees, in.readInt());
+        if (manager != null && !(manager instanceof Manager)) {
+            throw new IOException("Manager of department " + department.getDepartmentId() + " is not a manager");
+        }
+        int size = in.readInt();
+        List<Employee> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            roster.add(SnapshotFormat.resolve(employees, in.readInt()));
+        }
+        department.restoreMembers((Manager) manager, roster);
+    }
+}
@@ -0,0 +1,128 @@
+package company.structure;
+
+import company.projects.TimeEntry;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Single-pass aggregator behind time tracking reports.
+ * Entries are clipped to the report period and folded into per-employee, per-project,
+ * per-task and per-day totals as they arrive, so memory grows with the number of
+ * distinct groups and never with the number of entries. Entries that are still
+ * running (no end time) are skipped.
+ */
+public final class TimeReportEngine {
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private final LocalDateTime periodStart;
+    private final LocalDateTime periodEnd;
+    private final long periodStartSecond;
+    private final long periodEndSecond;
+    private final Map<String, Counter> byEmployee;
+    private final Map<String, Counter> byProject;
+    private final Map<String, Counter> byTask;
+    private final Map<Long, Counter> byDay;
+    private long entryCount;
+    private long totalSeconds;
+
+    public TimeReportEngine(LocalDateTime periodStart, LocalDateTime periodEnd) {
+        Objects.requireNonNull(periodStart, "Period start cannot be null");
+        Objects.requireNonNull(periodEnd, "Period end cannot be null");
+        if (periodEnd.isBefore(periodStart)) {
+            throw new IllegalArgumentException("Period end cannot be before period start");
+        }
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.periodStartSecond = toSecond(periodStart);
+        this.periodEndSecond = toSecond(periodEnd);
+        this.byEmployee = new HashMap<>();
+        this.byProject = new HashMap<>();
+        this.byTask = new HashMap<>();
+        this.byDay = new HashMap<>();
+    }
+
+    public void accept(TimeEntry entry) {
+        Objects.requireNonNull(entry, "Time entry cannot be null");
+        if (entry.getEndTime() == null) {
+            return;
+        }
+        long from = Math.max(toSecond(entry.getStartTime()), periodStartSecond);
+        long to = Math.min(toSecond(entry.getEndTime()), periodEndSecond);
+        if (to <= from) {
+            return;
+        }
+        long seconds = to - from;
+        entryCount++;
+        totalSeconds += seconds;
+        add(byEmployee, entry.getEmployee().getEmployeeId(), seconds);
+        add(byProject, entry.getProject().getProjectId(), seconds);
+        if (entry.getTask() != null) {
+            add(byTask, entry.getTask().getTaskId(), seconds);
+        }
+        // An entry contributes to every calendar day it spans
+        while (from < to) {
+            long day = Math.floorDiv(from, SECONDS_PER_DAY);
+            long dayEnd = Math.min((day + 1) * SECONDS_PER_DAY, to);
+            add(byDay, day, dayEnd - from);
+            from = dayEnd;
+        }
+    }
+
+    public TimeReportEngine consume(Iterator<? extends TimeEntry> entries) {
+        Objects.requireNonNull(entries, "Entries cannot be null");
+        while (entries.hasNext()) {
+            accept(entries.next());
+        }
+        return this;
+    }
+
+    /**
+     * Folds the totals of another engine over the same period into this one.
+     */
+    public TimeReportEngine merge(TimeReportEngine other) {
+        if (!periodStart.equals(other.periodStart) || !periodEnd.equals(other.periodEnd)) {
+            throw new IllegalArgumentException("Cannot merge totals of different periods");
+        }
+        entryCount += other.entryCount;
+        totalSeconds += other.totalSeconds;
+        mergeInto(byEmployee, other.byEmployee);
+        mergeInto(byProject, other.byProject);
+        mergeInto(byTask, other.byTask);
+        mergeInto(byDay, other.byDay);
+        return this;
+    }
+
+    public TimeSummary summarize() {
+        return new TimeSummary(periodStart, periodEnd, entryCount, totalSeconds,
+                byEmployee, byProject, byTask, byDay);
+    }
+
+    // Private helper methods
+    private static <K> void add(Map<K, Counter> totals, K key, long seconds) {
+        Counter counter = totals.get(key);
+        if (counter == null) {
+            counter = new Counter();
+            totals.put(key, counter);
+        }
+        counter.seconds += seconds;
+    }
+
+    private static <K> void mergeInto(Map<K, Counter> target, Map<K, Counter> source) {
+        for (Map.Entry<K, Counter> e : source.entrySet()) {
+            add(target, e.getKey(), e.getValue().seconds);
+        }
+    }
+
+    private static long toSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static final class Counter {
+        long seconds;
+    }
+}
@@ -0,0 +1,90 @@
+package company.structure;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable result of a time tracking report: hours per employee, project, task and day
+ * within the report period. Groups are keyed by their IDs and sorted.
+ */
+public final class TimeSummary {
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final LocalDateTime periodStart;
+    private final LocalDateTime periodEnd;
+    private final long entryCount;
+    private final double totalHours;
+    private final SortedMap<String, Double> hoursByEmployee;
+    private final SortedMap<String, Double> hoursByProject;
+    private final SortedMap<String, Double> hoursByTask;
+    private final SortedMap<LocalDate, Double> hoursByDay;
+
+    TimeSummary(LocalDateTime periodStart, LocalDateTime periodEnd, long entryCount, long totalSeconds,
+                Map<String, TimeReportEngine.Counter> byEmployee,
+                Map<String, TimeReportEngine.Counter> byProject,
+                Map<String, TimeReportEngine.Counter> byTask,
+                Map<Long, TimeReportEngine.Counter> byDay) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.entryCount = entryCount;
+        this.totalHours = totalSeconds / SECONDS_PER_HOUR;
+        this.hoursByEmployee = toHours(byEmployee);
+        this.hoursByProject = toHours(byProject);
+        this.hoursByTask = toHours(byTask);
+        SortedMap<LocalDate, Double> days = new TreeMap<>();
+        for (Map.Entry<Long, TimeReportEngine.Counter> e : byDay.entrySet()) {
+            days.put(LocalDate.ofEpochDay(e.getKey()), e.getValue().seconds / SECONDS_PER_HOUR);
+        }
+        this.hoursByDay = Collections.unmodifiableSortedMap(days);
+    }
+
+    TimeSummary(LocalDateTime periodStart, LocalDateTime periodEnd, long entryCount, double totalHours,
+                SortedMap<String, Double> hoursByEmployee,
+                SortedMap<String, Double> hoursByProject,
+                SortedMap<String, Double> hoursByTask,
+                SortedMap<LocalDate, Double> hoursByDay) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.entryCount = entryCount;
+        this.totalHours = totalHours;
+        this.hoursByEmployee = Collections.unmodifiableSortedMap(new TreeMap<>(hoursByEmployee));
+        this.hoursByProject = Collections.unmodifiableSortedMap(new TreeMap<>(hoursByProject));
+        this.hoursByTask = Collections.unmodifiableSortedMap(new TreeMap<>(hoursByTask));
+        this.hoursByDay = Collections.unmodifiableSortedMap(new TreeMap<>(hoursByDay));
+    }
+
+    // Getters
+    public LocalDateTime getPeriodStart() { return periodStart; }
+    public LocalDateTime getPeriodEnd() { return periodEnd; }
+    public long getEntryCount() { return entryCount; }
+    public double getTotalHours() { return totalHours; }
+    public SortedMap<String, Double> getHoursByEmployee() { return hoursByEmployee; }
+    public SortedMap<String, Double> getHoursByProject() { return hoursByProject; }
+    public SortedMap<String, Double> getHoursByTask() { return hoursByTask; }
+    public SortedMap<LocalDate, Double> getHoursByDay() { return hoursByDay; }
+
+    private static SortedMap<String, Double> toHours(Map<String, TimeReportEngine.Counter> totals) {
+        SortedMap<String, Double> hours = new TreeMap<>();
+        for (Map.Entry<String, TimeReportEngine.Counter> e : totals.entrySet()) {
+            hours.put(e.getKey(), e.getValue().seconds / SECONDS_PER_HOUR);
+        }
+        return Collections.unmodifiableSortedMap(hours);
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSummary{" +
+                "period=" + periodStart + " to " + periodEnd +
+                ", entries=" + entryCount +
+                ", hours=" + String.format("%.2f", totalHours) +
+                ", employees=" + hoursByEmployee.size() +
+                ", projects=" + hoursByProject.size() +
+                ", tasks=" + hoursByTask.size() +
+                ", days=" + hoursByDay.size() +
+                '}';
+    }
+}
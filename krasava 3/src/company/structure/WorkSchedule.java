@@ -1,13 +1,19 @@
 package company.structure;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Duration;
 import java.time.DayOfWeek;
-import java.util.HashSet;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Collections;
 
 public class WorkSchedule {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
     private final String scheduleId;
     private String scheduleName;
     private int workDaysPerWeek;
@@ -17,6 +23,10 @@ public class WorkSchedule {
     private Duration breakDuration;
     private boolean isFlexible;
     private final Set<DayOfWeek> workingDays;
+    // Set once the schedule is shared through ReferenceDataRegistry
+    private final boolean shared;
+    // Minute-of-week bitmap, bit (day * 1440 + minute of day); built on first use, cleared by every change
+    private volatile long[] availability;
 
     public WorkSchedule(String scheduleId, String scheduleName, int workDaysPerWeek, 
                        double hoursPerDay, LocalTime startTime, LocalTime endTime, 
@@ -32,10 +42,55 @@ public class WorkSchedule {
         this.endTime = endTime;
         this.breakDuration = breakDuration;
         this.isFlexible = isFlexible;
-        this.workingDays = new HashSet<>();
+        this.workingDays = EnumSet.noneOf(DayOfWeek.class);
+        this.shared = false;
         initializeDefaultWorkingDays();
     }
 
+    // Trusted constructor for values read back from a snapshot; nothing is validated
+    WorkSchedule(String scheduleId, String scheduleName, int workDaysPerWeek, double hoursPerDay,
+                 LocalTime startTime, LocalTime endTime, Duration breakDuration, boolean isFlexible,
+                 Set<DayOfWeek> workingDays) {
+        this.scheduleId = scheduleId;
+        this.scheduleName = scheduleName;
+        this.workDaysPerWeek = workDaysPerWeek;
+        this.hoursPerDay = hoursPerDay;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.breakDuration = breakDuration;
+        this.isFlexible = isFlexible;
+        this.workingDays = workingDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(workingDays);
+        this.shared = false;
+    }
+
+    private WorkSchedule(WorkSchedule source, boolean shared) {
+        this.scheduleId = source.scheduleId;
+        this.scheduleName = source.scheduleName;
+        this.workDaysPerWeek = source.workDaysPerWeek;
+        this.hoursPerDay = source.hoursPerDay;
+        this.startTime = source.startTime;
+        this.endTime = source.endTime;
+        this.breakDuration = source.breakDuration;
+        this.isFlexible = source.isFlexible;
+        this.workingDays = EnumSet.copyOf(source.workingDays);
+        this.shared = shared;
+        this.availability = source.availability;
+    }
+
+    /**
+     * Returns a private, modifiable copy. Use it to change a shared schedule; intern the
+     * copy again to publish the new version.
+     */
+    public WorkSchedule mutableCopy() {
+        return new WorkSchedule(this, false);
+    }
+
+    /**
+     * Whether this is a canonical instance from {@link ReferenceDataRegistry}. Shared
+     * schedules are read-only and their mutators throw {@link IllegalStateException}.
+     */
+    public boolean isShared() { return shared; }
+
     // Public getters
     public String getScheduleId() { return scheduleId; }
     public String getScheduleName() { return scheduleName; }
@@ -49,6 +104,7 @@ public class WorkSchedule {
 
     // Public methods for schedule management
     public void updateScheduleName(String newName) {
+        checkModifiable();
         if (newName == null || newName.trim().isEmpty()) {
             throw new IllegalArgumentException("Schedule name cannot be null or empty");
         }
@@ -56,38 +112,47 @@ public class WorkSchedule {
     }
 
     public void updateWorkingHours(LocalTime newStartTime, LocalTime newEndTime) {
+        checkModifiable();
         validateWorkingHours(newStartTime, newEndTime);
         this.startTime = newStartTime;
         this.endTime = newEndTime;
         updateHoursPerDay();
+        invalidateAvailability();
     }
 
     public void updateBreakDuration(Duration newBreakDuration) {
+        checkModifiable();
         if (newBreakDuration == null || newBreakDuration.isNegative()) {
             throw new IllegalArgumentException("Break duration cannot be null or negative");
         }
         this.breakDuration = newBreakDuration;
         updateHoursPerDay();
+        invalidateAvailability();
     }
 
     public void setFlexible(boolean flexible) {
+        checkModifiable();
         this.isFlexible = flexible;
     }
 
     public void addWorkingDay(DayOfWeek day) {
+        checkModifiable();
         if (workingDays.size() >= 7) {
             throw new IllegalStateException("Cannot add more than 7 working days");
         }
         workingDays.add(day);
         this.workDaysPerWeek = workingDays.size();
+        invalidateAvailability();
     }
 
     public void removeWorkingDay(DayOfWeek day) {
+        checkModifiable();
         if (workingDays.size() <= 1) {
             throw new IllegalStateException("Schedule must have at least one working day");
         }
         workingDays.remove(day);
         this.workDaysPerWeek = workingDays.size();
+        invalidateAvailability();
     }
 
     // Public utility methods
@@ -103,7 +168,133 @@ public class WorkSchedule {
         return workingDays.contains(day);
     }
 
+    /**
+     * Whether the given local time falls inside this schedule's working hours.
+     * The break is placed in the middle of the working day.
+     */
+    public boolean isWorkingAt(LocalDateTime time) {
+        Objects.requireNonNull(time, "Time cannot be null");
+        int minute = minuteOfWeek(time);
+        return (availability()[minute >>> 6] & (1L << minute)) != 0;
+    }
+
+    /**
+     * Number of scheduled working minutes in {@code [from, to)}, both truncated to the minute.
+     */
+    public long getWorkingMinutesBetween(LocalDateTime from, LocalDateTime to) {
+        Objects.requireNonNull(from, "Start time cannot be null");
+        Objects.requireNonNull(to, "End time cannot be null");
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End time cannot be before start time");
+        }
+        long[] bits = availability();
+        long minutes = ChronoUnit.MINUTES.between(from.truncatedTo(ChronoUnit.MINUTES), to.truncatedTo(ChronoUnit.MINUTES));
+        int start = minuteOfWeek(from);
+        int end = start + (int) (minutes % MINUTES_PER_WEEK);
+        long count = (minutes / MINUTES_PER_WEEK) * countBits(bits, 0, MINUTES_PER_WEEK);
+        if (end <= MINUTES_PER_WEEK) {
+            count += countBits(bits, start, end);
+        } else {
+            count += countBits(bits, start, MINUTES_PER_WEEK) + countBits(bits, 0, end - MINUTES_PER_WEEK);
+        }
+        return count;
+    }
+
+    public long getWorkingMinutesPerWeek() {
+        return countBits(availability(), 0, MINUTES_PER_WEEK);
+    }
+
+    // Package-private methods for ReferenceDataRegistry
+    WorkSchedule sharedCopy() {
+        return new WorkSchedule(this, true);
+    }
+
+    boolean sameContent(WorkSchedule other) {
+        return scheduleId.equals(other.scheduleId)
+                && scheduleName.equals(other.scheduleName)
+                && workDaysPerWeek == other.workDaysPerWeek
+                && Double.compare(hoursPerDay, other.hoursPerDay) == 0
+                && startTime.equals(other.startTime)
+                && endTime.equals(other.endTime)
+                && breakDuration.equals(other.breakDuration)
+                && isFlexible == other.isFlexible
+                && workingDays.equals(other.workingDays);
+    }
+
+    int contentHash() {
+        return Objects.hash(scheduleId, scheduleName, workDaysPerWeek, hoursPerDay,
+                startTime, endTime, breakDuration, isFlexible, workingDays);
+    }
+
     // Private helper methods
+    private void checkModifiable() {
+        if (shared) {
+            throw new IllegalStateException("Shared schedule " + scheduleId + " is read-only; use mutableCopy()");
+        }
+    }
+
+    private long[] availability() {
+        long[] bits = availability;
+        if (bits == null) {
+            synchronized (this) {
+                bits = availability;
+                if (bits == null) {
+                    bits = compileAvailability();
+                    availability = bits;
+                }
+            }
+        }
+        return bits;
+    }
+
+    // Mutators call this after updating their fields, so a bitmap compiled concurrently from old values is dropped
+    private synchronized void invalidateAvailability() {
+        availability = null;
+    }
+
+    private long[] compileAvailability() {
+        long[] bits = new long[(MINUTES_PER_WEEK + 63) / 64];
+        int start = startTime.toSecondOfDay() / 60;
+        int end = endTime.toSecondOfDay() / 60;
+        int breakMinutes = (int) Math.min(breakDuration.toMinutes(), end - start);
+        int breakStart = start + (end - start - breakMinutes) / 2;
+        int breakEnd = breakStart + breakMinutes;
+        for (DayOfWeek day : workingDays) {
+            int base = day.ordinal() * MINUTES_PER_DAY;
+            setBits(bits, base + start, base + breakStart);
+            setBits(bits, base + breakEnd, base + end);
+        }
+        return bits;
+    }
+
+    private static int minuteOfWeek(LocalDateTime time) {
+        return time.getDayOfWeek().ordinal() * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    private static void setBits(long[] bits, int from, int to) {
+        for (int i = from; i < to; i++) {
+            bits[i >>> 6] |= 1L << i;
+        }
+    }
+
+    private static long countBits(long[] bits, int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+        if (first == last) {
+            return Long.bitCount(bits[first] & firstMask & lastMask);
+        }
+        long count = Long.bitCount(bits[first] & firstMask);
+        for (int i = first + 1; i < last; i++) {
+            count += Long.bitCount(bits[i]);
+        }
+        return count + Long.bitCount(bits[last] & lastMask);
+    }
+
     private void initializeDefaultWorkingDays() {
         workingDays.add(DayOfWeek.MONDAY);
         workingDays.add(DayOfWeek.TUESDAY);
@@ -8,6 +8,8 @@ import java.time.LocalTime;
 import java.time.Duration;
 
 public class Main {
+    private static final ReferenceDataRegistry REFERENCE_DATA = new ReferenceDataRegistry();
+
     public static void main(String[] args) {
         try {
             // Initialize department structure
@@ -48,6 +50,12 @@ public class Main {
                 true
             );
 
+            // Share one read-only instance of each position and schedule between employees
+            devPos = REFERENCE_DATA.intern(devPos);
+            managerPos = REFERENCE_DATA.intern(managerPos);
+            standardSchedule = REFERENCE_DATA.intern(standardSchedule);
+            flexibleSchedule = REFERENCE_DATA.intern(flexibleSchedule);
+
             // Create employees
             Manager itManager = createManager("M001", "Ivan", "Petrenko", itDep, managerPos, standardSchedule);
             Manager hrManager = createManager("M002", "Maria", "Kovalenko", hrDep, managerPos, standardSchedule);
@@ -146,7 +154,10 @@ public class Main {
 
     private static HRSpecialist createHRSpecialist(String id, String firstName, String lastName,
                                                  Department dept, WorkSchedule schedule) {
-        Position hrPos = new Position("PH001", "HR Specialist", "Human resources management", 30000, 45000);
+        Position hrPos = REFERENCE_DATA.getPosition("PH001");
+        if (hrPos == null) {
+            hrPos = REFERENCE_DATA.intern(new Position("PH001", "HR Specialist", "Human resources management", 30000, 45000));
+        }
         return new HRSpecialist(id, firstName, lastName,
                               firstName.toLowerCase() + "." + lastName.toLowerCase() + "@company.com",
                               "+380931234" + id.substring(1),